@@ -17,7 +17,7 @@
 package org.moxieapps.gwt.highcharts.client;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
 
 import org.moxieapps.gwt.highcharts.client.events.AxisSetExtremesEventHandler;
@@ -135,8 +135,8 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
 
     }
 
-    // Maintain an internal reference to the chart instance that this axis is a part of
-    private BaseChart chart;
+    // Maintain an internal reference to the chart instance that this axis is a part of (purposefully set to package scope)
+    BaseChart chart;
 
     // The unique id for this axis, that we can use to access the native axis instance later if changes
     // come into the axis after it is rendered
@@ -150,6 +150,12 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     
     private List<PlotLine> plotLines;
 
+    // Indexes of the plot bands and lines by id, kept in sync with the lists above so that event dispatch
+    // doesn't have to search through all of them
+    private final HashMap<String, PlotBand> plotBandsById = new HashMap<String, PlotBand>();
+
+    private final HashMap<String, PlotLine> plotLinesById = new HashMap<String, PlotLine>();
+
     /**
      * Use the {@link Chart#getXAxis()} or {@link Chart#getYAxis()} methods to get access
      * to the axis instances on the chart.
@@ -204,6 +210,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     public PlotLine createPlotLine() {
 	final PlotLine createdPlotLine = new PlotLine(this);
 	plotLines.add(createdPlotLine);
+	plotLinesById.put(createdPlotLine.getId(), createdPlotLine);
         return createdPlotLine;
     }
 
@@ -217,6 +224,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     public PlotBand createPlotBand() {
 	final PlotBand createdPlotBand = new PlotBand(this);
 	this.plotBands.add(createdPlotBand);
+	this.plotBandsById.put(createdPlotBand.getId(), createdPlotBand);
         return createdPlotBand;
     }
 
@@ -363,10 +371,10 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
             if (nativeAxis != null) {
                 if (animation == null || animation.getOptions() == null) {
                     final boolean animationFlag = animation != null;
-                    nativeSetExtremes(nativeAxis, min.doubleValue(), max.doubleValue(), redraw, animationFlag);
+                    nativeSetExtremes(nativeAxis, min.doubleValue(), max.doubleValue(), chart.requestRedraw(redraw), animationFlag);
                 } else {
                     final JavaScriptObject animationOptions = animation.getOptions().getJavaScriptObject();
-                    nativeSetExtremes(nativeAxis, min.doubleValue(), max.doubleValue(), redraw, animationOptions);
+                    nativeSetExtremes(nativeAxis, min.doubleValue(), max.doubleValue(), chart.requestRedraw(redraw), animationOptions);
                 }
             }
         } else {
@@ -428,25 +436,11 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     }
     
     public PlotBand getPlotBand(String plotBandId) {
-	final Iterator<PlotBand> iterPlotBands = plotBands.iterator();
-	
-	while (iterPlotBands.hasNext()) {
-	    final PlotBand currentPlotBand = iterPlotBands.next();
-	    if (currentPlotBand.getId().equals(plotBandId))
-		return currentPlotBand;
-	}
-	return null;
+	return plotBandsById.get(plotBandId);
     }
     
     public PlotLine getPlotLine(String plotLineId) {
-	final Iterator<PlotLine> iterPlotLines = plotLines.iterator();
-	
-	while (iterPlotLines.hasNext()) {
-	    final PlotLine currrentPlotLine = iterPlotLines.next();
-	    if (currrentPlotLine.getId().equals(plotLineId))
-		return currrentPlotLine;
-	}
-	return null;
+	return plotLinesById.get(plotLineId);
     }
     
     /**
@@ -844,8 +838,10 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
      */
     public T setPlotLines(PlotLine... plotLines) {
 	this.plotLines.clear();
+	this.plotLinesById.clear();
 	for (final PlotLine plotLine : plotLines) {
 	    this.plotLines.add(plotLine);
+	    this.plotLinesById.put(plotLine.getId(), plotLine);
 	}
         return this.setOption("plotLines", plotLines);
     }
@@ -873,8 +869,10 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
      */
     public T setPlotBands(PlotBand... plotBands) {
 	this.plotBands.clear();
+	this.plotBandsById.clear();
 	for (final PlotBand plotBand : plotBands) {
 	    this.plotBands.add(plotBand);
+	    this.plotBandsById.put(plotBand.getId(), plotBand);
 	}
         return this.setOption("plotBands", plotBands);
     }
@@ -1159,7 +1157,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
      */
     public T setAxisTitle(AxisTitle title, boolean redraw) {
         if(getNativeAxis() != null) {
-            nativeSetTitle(getNativeAxis(), title != null ? title.getOptions().getJavaScriptObject() : null, redraw);
+            nativeSetTitle(getNativeAxis(), title != null ? title.getOptions().getJavaScriptObject() : null, chart.requestRedraw(redraw));
         }
         this.axisTitle = title;
         return this.setOption("/title", title != null ? title.getOptions() : null);
@@ -1207,7 +1205,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     public T addPlotLines(PlotLine... plotLines) {
         if (getNativeAxis() != null) {
             for (PlotLine plotLine : plotLines) {
-        	this.plotLines.add(plotLine);
+                trackPlotLine(plotLine, true);
                 nativeAddPlotLine(getNativeAxis(), plotLine.getOptions().getJavaScriptObject());
             }
         } else {
@@ -1228,7 +1226,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
     public T addPlotBands(PlotBand... plotBands) {
         if (getNativeAxis() != null) {
             for (PlotBand plotBand : plotBands) {
-        	this.plotBands.add(plotBand);
+                trackPlotBand(plotBand, true);
                 nativeAddPlotBand(getNativeAxis(), plotBand.getOptions().getJavaScriptObject());
             }
         } else {
@@ -1247,6 +1245,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
      */
     public T removePlotLine(PlotLine plotLine) {
         if (getNativeAxis() != null) {
+            trackPlotLine(plotLine, false);
             nativeRemovePlotLine(getNativeAxis(), plotLine.getId());
         } else {
             // TODO: Add support for removing a plot line for the set before the chart is rendered
@@ -1264,6 +1263,7 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
      */
     public T removePlotBand(PlotBand plotBand) {
         if (getNativeAxis() != null) {
+            trackPlotBand(plotBand, false);
             nativeRemovePlotBand(getNativeAxis(), plotBand.getId());
         } else {
             // TODO: Add support for removing a plot band for the set before the chart is rendered
@@ -1271,6 +1271,33 @@ public abstract class Axis<T extends Axis> extends Configurable<T> {
         return getThis();
     }
 
+    // Purposefully restricted to package scope, so that a ChartTransaction can keep track of the plot lines and
+    // bands it adds to or removes from the rendered axis in the same way as the methods above
+    void trackPlotLine(PlotLine plotLine, boolean added) {
+        if (added) {
+            this.plotLines.add(plotLine);
+            this.plotLinesById.put(plotLine.getId(), plotLine);
+        } else {
+            this.plotLines.remove(plotLine);
+            this.plotLinesById.remove(plotLine.getId());
+        }
+    }
+
+    void trackPlotBand(PlotBand plotBand, boolean added) {
+        if (added) {
+            this.plotBands.add(plotBand);
+            this.plotBandsById.put(plotBand.getId(), plotBand);
+        } else {
+            this.plotBands.remove(plotBand);
+            this.plotBandsById.remove(plotBand.getId());
+        }
+    }
+
+    // Purposefully restricted to package scope, so that replacing the label formatters of the axis lets go
+    // of any labels the chart has memoized
+    void clearFormatterCache() {
+        chart.clearFormatterCache();
+    }
 
     // Handle the unchecked cast limitation with generics in one place
     private T getThis() {
@@ -17,6 +17,7 @@
 package org.moxieapps.gwt.highcharts.client;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -39,6 +40,7 @@ import org.moxieapps.gwt.highcharts.client.events.PlotLineClickEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointClickEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointDragEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointDropEvent;
+import org.moxieapps.gwt.highcharts.client.events.PointEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointLegendItemClickEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointMouseOutEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointMouseOverEvent;
@@ -48,12 +50,16 @@ import org.moxieapps.gwt.highcharts.client.events.PointUnselectEvent;
 import org.moxieapps.gwt.highcharts.client.events.PointUpdateEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesCheckboxClickEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesClickEvent;
+import org.moxieapps.gwt.highcharts.client.events.SeriesDblClickEvent;
+import org.moxieapps.gwt.highcharts.client.events.SeriesEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesHideEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesLegendItemClickEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesMouseOutEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesMouseOverEvent;
 import org.moxieapps.gwt.highcharts.client.events.SeriesShowEvent;
 import org.moxieapps.gwt.highcharts.client.labels.AxisLabelsData;
+import org.moxieapps.gwt.highcharts.client.labels.BaseDataLabels;
+import org.moxieapps.gwt.highcharts.client.labels.BatchDataLabelsData;
 import org.moxieapps.gwt.highcharts.client.labels.DataLabelsData;
 import org.moxieapps.gwt.highcharts.client.labels.LegendLabelsData;
 import org.moxieapps.gwt.highcharts.client.labels.StackLabelsData;
@@ -80,11 +86,16 @@ import org.moxieapps.gwt.highcharts.client.plotOptions.SeriesPlotOptions;
 import org.moxieapps.gwt.highcharts.client.plotOptions.SplinePlotOptions;
 import org.moxieapps.gwt.highcharts.client.plotOptions.WaterfallPlotOptions;
 
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayNumber;
 import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.DivElement;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONBoolean;
 import com.google.gwt.json.client.JSONNull;
@@ -92,6 +103,7 @@ import com.google.gwt.json.client.JSONNumber;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONString;
 import com.google.gwt.json.client.JSONValue;
+import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.Widget;
 
 /**
@@ -726,6 +738,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setLegend(Legend legend) {
 	this.legend = legend;
+	clearFormatterCache();
 	return this.setOption("/legend", legend != null ? legend.getOptions() : null);
     }
 
@@ -1431,6 +1444,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setToolTip(ToolTip toolTip) {
 	this.toolTip = toolTip;
+	clearFormatterCache();
 	return this.setOption("/tooltip", toolTip != null ? toolTip.getOptions() : null);
     }
 
@@ -1653,6 +1667,23 @@ public abstract class BaseChart<T> extends Widget {
 	return returnThis();
     }
 
+    /**
+     * General purpose method to set an arbitrary option on the chart at any level, exactly like
+     * {@link #setOption(String, Object)} but using a precompiled {@link OptionPath} so that the path
+     * doesn't need to be looked up again.
+     *
+     * @param path
+     *            The precompiled path to the option to set (e.g. <code>OptionPath.get("/title/text")</code>);
+     * @param value
+     *            The value to set for the option (can be a String, Number, Boolean, or JSONObject)
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setOption(OptionPath path, Object value) {
+	configurable.setOption(path, value);
+	return returnThis();
+    }
+
     /**
      * Retrieve all of the options that have been configured for this chart instance
      * as a JSONObject.
@@ -1711,6 +1742,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setAreaPlotOptions(AreaPlotOptions areaPlotOptions) {
 	this.areaPlotOptions = areaPlotOptions;
+	putPlotOptions("area", areaPlotOptions);
 	return areaPlotOptions != null && areaPlotOptions.getOptions() != null ? this.setOption("/plotOptions/area", areaPlotOptions.getOptions())
 		: returnThis();
     }
@@ -1731,6 +1763,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setAreaRangePlotOptions(AreaRangePlotOptions areaRangePlotOptions) {
 	this.areaRangePlotOptions = areaRangePlotOptions;
+	putPlotOptions("arearange", areaRangePlotOptions);
 	return areaRangePlotOptions != null && areaRangePlotOptions.getOptions() != null ? this.setOption("/plotOptions/arearange",
 		areaRangePlotOptions.getOptions()) : returnThis();
     }
@@ -1749,6 +1782,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setAreaSplinePlotOptions(AreaSplinePlotOptions areaSplinePlotOptions) {
 	this.areaSplinePlotOptions = areaSplinePlotOptions;
+	putPlotOptions("areaspline", areaSplinePlotOptions);
 	return areaSplinePlotOptions != null && areaSplinePlotOptions.getOptions() != null ? this.setOption("/plotOptions/areaspline",
 		areaSplinePlotOptions.getOptions()) : returnThis();
     }
@@ -1770,6 +1804,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setAreaSplineRangePlotOptions(AreaSplineRangePlotOptions areaSplineRangePlotOptions) {
 	this.areaSplineRangePlotOptions = areaSplineRangePlotOptions;
+	putPlotOptions("areasplinerange", areaSplineRangePlotOptions);
 	return areaSplineRangePlotOptions != null && areaSplineRangePlotOptions.getOptions() != null ? this.setOption("/plotOptions/areasplinerange",
 		areaSplineRangePlotOptions.getOptions()) : returnThis();
     }
@@ -1788,6 +1823,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setBarPlotOptions(BarPlotOptions barPlotOptions) {
 	this.barPlotOptions = barPlotOptions;
+	putPlotOptions("bar", barPlotOptions);
 	return barPlotOptions != null && barPlotOptions.getOptions() != null ? this.setOption("/plotOptions/bar", barPlotOptions.getOptions()) : returnThis();
     }
 
@@ -1805,6 +1841,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setBoxPlotOptions(BoxPlotOptions boxPlotOptions) {
 	this.boxPlotOptions = boxPlotOptions;
+	putPlotOptions("box", boxPlotOptions);
 	return boxPlotOptions != null && boxPlotOptions.getOptions() != null ? this.setOption("/plotOptions/box", boxPlotOptions.getOptions()) : returnThis();
     }
 
@@ -1822,6 +1859,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setBubblePlotOptions(BubblePlotOptions bubblePlotOptions) {
 	this.bubblePlotOptions = bubblePlotOptions;
+	putPlotOptions("bubble", bubblePlotOptions);
 	return bubblePlotOptions != null && bubblePlotOptions.getOptions() != null ? this.setOption("/plotOptions/bubble", bubblePlotOptions.getOptions())
 		: returnThis();
     }
@@ -1840,6 +1878,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setColumnPlotOptions(ColumnPlotOptions columnPlotOptions) {
 	this.columnPlotOptions = columnPlotOptions;
+	putPlotOptions("column", columnPlotOptions);
 	return columnPlotOptions != null && columnPlotOptions.getOptions() != null ? this.setOption("/plotOptions/column", columnPlotOptions.getOptions())
 		: returnThis();
     }
@@ -1858,6 +1897,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setColumnRangePlotOptions(ColumnRangePlotOptions columnRangePlotOptions) {
 	this.columnRangePlotOptions = columnRangePlotOptions;
+	putPlotOptions("columnrange", columnRangePlotOptions);
 	return columnRangePlotOptions != null && columnRangePlotOptions.getOptions() != null ? this.setOption("/plotOptions/columnrange",
 		columnRangePlotOptions.getOptions()) : returnThis();
     }
@@ -1876,6 +1916,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setErrorBarPlotOptions(ErrorBarPlotOptions errorBarPlotOptions) {
 	this.errorBarPlotOptions = errorBarPlotOptions;
+	putPlotOptions("errorbar", errorBarPlotOptions);
 	return errorBarPlotOptions != null && errorBarPlotOptions.getOptions() != null ? this.setOption("/plotOptions/errorbar",
 		errorBarPlotOptions.getOptions()) : returnThis();
     }
@@ -1894,6 +1935,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setFunnelPlotOptions(FunnelPlotOptions funnelPlotOptions) {
 	this.funnelPlotOptions = funnelPlotOptions;
+	putPlotOptions("funnel", funnelPlotOptions);
 	return funnelPlotOptions != null && funnelPlotOptions.getOptions() != null ? this.setOption("/plotOptions/funnel", funnelPlotOptions.getOptions())
 		: returnThis();
     }
@@ -1912,6 +1954,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setGaugePlotOptions(GaugePlotOptions gaugePlotOptions) {
 	this.gaugePlotOptions = gaugePlotOptions;
+	putPlotOptions("gauge", gaugePlotOptions);
 	return gaugePlotOptions != null && gaugePlotOptions.getOptions() != null ? this.setOption("/plotOptions/gauge", gaugePlotOptions.getOptions())
 		: returnThis();
     }
@@ -1930,6 +1973,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setLinePlotOptions(LinePlotOptions linePlotOptions) {
 	this.linePlotOptions = linePlotOptions;
+	putPlotOptions("line", linePlotOptions);
 	return linePlotOptions != null && linePlotOptions.getOptions() != null ? this.setOption("/plotOptions/line", linePlotOptions.getOptions())
 		: returnThis();
     }
@@ -1948,6 +1992,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setPiePlotOptions(PiePlotOptions piePlotOptions) {
 	this.piePlotOptions = piePlotOptions;
+	putPlotOptions("pie", piePlotOptions);
 	return piePlotOptions != null && piePlotOptions.getOptions() != null ? this.setOption("/plotOptions/pie", piePlotOptions.getOptions()) : returnThis();
     }
 
@@ -1969,6 +2014,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setSeriesPlotOptions(SeriesPlotOptions seriesPlotOptions) {
 	this.seriesPlotOptions = seriesPlotOptions;
+	putPlotOptions("series", seriesPlotOptions);
 	return seriesPlotOptions != null && seriesPlotOptions.getOptions() != null ? this.setOption("/plotOptions/series", seriesPlotOptions.getOptions())
 		: returnThis();
     }
@@ -1994,6 +2040,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setScatterPlotOptions(ScatterPlotOptions scatterPlotOptions) {
 	this.scatterPlotOptions = scatterPlotOptions;
+	putPlotOptions("scatter", scatterPlotOptions);
 	return scatterPlotOptions != null && scatterPlotOptions.getOptions() != null ? this.setOption("/plotOptions/scatter", scatterPlotOptions.getOptions())
 		: returnThis();
     }
@@ -2012,6 +2059,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setWaterfallPlotOptions(WaterfallPlotOptions waterfallPlotOptions) {
 	this.waterfallPlotOptions = waterfallPlotOptions;
+	putPlotOptions("waterfall", waterfallPlotOptions);
 	return waterfallPlotOptions != null && waterfallPlotOptions.getOptions() != null ? this.setOption("/plotOptions/waterfall",
 		waterfallPlotOptions.getOptions()) : returnThis();
     }
@@ -2094,6 +2142,7 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T setSplinePlotOptions(SplinePlotOptions splinePlotOptions) {
 	this.splinePlotOptions = splinePlotOptions;
+	putPlotOptions("spline", splinePlotOptions);
 	return this.setOption("/plotOptions/spline", splinePlotOptions.getOptions());
     }
 
@@ -2159,9 +2208,130 @@ public abstract class BaseChart<T> extends Widget {
 	return returnThis();
     }
 
+    // Whether or not to hold on to the live chart when the widget is detached, in case it's attached again right away,
+    // and whether the chart has been detached with its native instance still waiting to be destroyed
+    private boolean movable = false;
+    private boolean detachPending = false;
+
+    private final Scheduler.ScheduledCommand detachCommand = new Scheduler.ScheduledCommand() {
+	public void execute() {
+	    if (detachPending) {
+		detachPending = false;
+		if (!isAttached() && isRendered()) {
+		    destroyChart();
+		}
+	    }
+	}
+    };
+
+    /**
+     * By default the chart is destroyed when the widget is detached from the page, and rendered again from scratch
+     * when it's attached again, which also requires {@link #setPersistent(boolean) persistent} mode in order for the
+     * data of the series to survive.  Setting the movable option to 'true' instead holds on to the live chart (along with
+     * its SVG elements and data) for a moment after the widget is detached, so that a widget that is moved from one
+     * panel to another within the same document (e.g. by removing it from one panel and adding it to another in the same
+     * event handler, as in a drag and drop dashboard layout) simply keeps its chart, which is then reflowed to fit the
+     * size of its new container.  If the widget isn't attached again before the browser event loop gets around to
+     * deferred commands, the chart is destroyed as usual.  Defaults to 'false'.
+     *
+     * @param movable
+     *            'true' to keep the live chart when the widget is moved to another parent, or 'false' to destroy it whenever
+     *            the widget is detached.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setMovable(boolean movable) {
+	this.movable = movable;
+	return returnThis();
+    }
+
+    /**
+     * Returns whether the live chart is kept when the widget is moved to another parent, as set via {@link #setMovable(boolean)}.
+     *
+     * @return 'true' if the live chart is kept when the widget is moved. Defaults to 'false'.
+     * @since 1.7.0
+     */
+    public boolean isMovable() {
+	return movable;
+    }
+
+    // The maximum number of formatted labels to memoize, and the native cache holding them once the chart is rendered
+    private int formatterCacheSize = 0;
+    private JavaScriptObject formatterCache;
+
+    // The formatters whose output is held in the formatter cache, by the kind of label and the index of its axis
+    private final HashMap<String, Object> cachedFormatters = new HashMap<String, Object>();
+
+    /**
+     * Sets the number of formatted labels that the chart will remember, so that the {@link org.moxieapps.gwt.highcharts.client.ToolTipFormatter},
+     * the legend {@link org.moxieapps.gwt.highcharts.client.labels.LegendLabelsFormatter}, and the axis and stack
+     * {@link org.moxieapps.gwt.highcharts.client.labels.AxisLabelsFormatter}/{@link org.moxieapps.gwt.highcharts.client.labels.StackLabelsFormatter}
+     * instances are only called once for each distinct label (instead of every time Highcharts re-renders it, e.g.
+     * for the same axis ticks over and over again while panning or zooming).  Labels are remembered by the inputs of
+     * the label (e.g. the axis value, or the series and X/Y values of the points in a tooltip), and the least recently
+     * used labels are let go once the cache is full.  The cache is automatically cleared when the data of a series
+     * changes, when a series is added or removed, or when any of those formatters is replaced (including via e.g.
+     * {@link ToolTip#setFormatter(ToolTipFormatter)} on a chart that is already rendered).  If the output of a
+     * formatter depends on any other state, call {@link #clearFormatterCache()} whenever that state changes.
+     * Defaults to 0, which disables the cache.
+     *
+     * @param formatterCacheSize The maximum number of formatted labels to remember, or 0 to disable the cache.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setFormatterCacheSize(int formatterCacheSize) {
+	this.formatterCacheSize = formatterCacheSize;
+	if (isRendered()) {
+	    formatterCache = formatterCacheSize > 0 ? nativeCreateFormatterCache(formatterCacheSize) : null;
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns the number of formatted labels the chart will remember, as set via {@link #setFormatterCacheSize(int)}.
+     *
+     * @return The maximum number of formatted labels to remember, or 0 if the cache is disabled.
+     * @since 1.7.0
+     */
+    public int getFormatterCacheSize() {
+	return formatterCacheSize;
+    }
+
+    /**
+     * Forget all of the formatted labels remembered by the chart (see {@link #setFormatterCacheSize(int)}), so
+     * that the formatters are called again the next time the labels are rendered.  Note that the labels
+     * already shown on the chart are only updated on the next redraw of the chart.
+     *
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T clearFormatterCache() {
+	if (formatterCache != null) {
+	    nativeClearFormatterCache(formatterCache);
+	}
+	return returnThis();
+    }
+
+    // Holds two generations of entries of half the size each, so that the cache can be bounded without
+    // the native side having to track the order in which each entry was used
+    private static native JavaScriptObject nativeCreateFormatterCache(int size) /*-{
+	return { size: Math.max(1, Math.ceil(size / 2)), count: 0, current: {}, previous: {} };
+    }-*/;
+
+    private static native void nativeClearFormatterCache(JavaScriptObject cache) /*-{
+	cache.current = {};
+	cache.previous = {};
+	cache.count = 0;
+    }-*/;
+
     // Purposefully not using the generic "List" interface here in order to optimize GWT performance.
     private ArrayList<Series> seriesList = new ArrayList<Series>();
 
+    // Indexes of the series and axes by id, kept in sync with the lists so that lookups (especially from
+    // within event callbacks) don't have to search through all of them
+    private final HashMap<String, Series> seriesById = new HashMap<String, Series>();
+    private final HashMap<String, Axis<?>> axesById = new HashMap<String, Axis<?>>();
+
     /**
      * Create a new data series that can be configured, and then added to this chart instance via the {@link #addSeries(Series)} method.
      *
@@ -2172,6 +2342,18 @@ public abstract class BaseChart<T> extends Widget {
 	return new Series(this);
     }
 
+    /**
+     * Create a new transaction that can be used to record a set of changes to the series and axes of this chart,
+     * which are then applied to the chart all at once (followed by a single redraw) when the transaction is
+     * committed.  See {@link ChartTransaction} for more details.
+     *
+     * @return The transaction that was created.
+     * @since 1.7.0
+     */
+    public ChartTransaction createTransaction() {
+	return new ChartTransaction(this);
+    }
+
     /**
      * Add the given data series to the chart, using the default options. Note, see the {@link #addSeries(Series, boolean, boolean)} and
      * {@link #addSeries(Series, boolean, Animation)} for more
@@ -2221,15 +2403,16 @@ public abstract class BaseChart<T> extends Widget {
 
 	// Whether or not we've been rendered yet or not, maintain a reference to all of the series that we're managing
 	seriesList.add(series);
+	seriesById.put(series.getId(), series);
 
 	if (isRendered()) {
 	    final JavaScriptObject seriesOptions = convertSeriesToJSON(series).getJavaScriptObject();
 	    if (animation == null || animation.getOptions() == null) {
 		final boolean animationFlag = animation != null;
-		nativeAddSeries(chart, seriesOptions, redraw, animationFlag);
+		nativeAddSeries(chart, seriesOptions, requestRedraw(redraw), animationFlag);
 	    } else {
 		final JavaScriptObject animationOptions = animation.getOptions().getJavaScriptObject();
-		nativeAddSeries(chart, seriesOptions, redraw, animationOptions);
+		nativeAddSeries(chart, seriesOptions, requestRedraw(redraw), animationOptions);
 	    }
 	    series.setRendered(true);
 
@@ -2255,12 +2438,7 @@ public abstract class BaseChart<T> extends Widget {
      * @since 1.1.0
      */
     public Series getSeries(String seriesId) {
-	for (Series series : seriesList) {
-	    if (series.getId().equals(seriesId)) {
-		return series;
-	    }
-	}
-	return null;
+	return seriesById.get(seriesId);
     }
 
     /**
@@ -2307,10 +2485,13 @@ public abstract class BaseChart<T> extends Widget {
 	if (!seriesList.remove(series)) {
 	    return false;
 	}
+	if (!seriesList.contains(series)) {
+	    seriesById.remove(series.getId());
+	}
 	if (isRendered()) {
 	    final JavaScriptObject nativeSeries = nativeGet(chart, series.getId());
 	    if (nativeSeries != null) {
-		nativeRemoveSeries(chart, nativeSeries, redraw);
+		nativeRemoveSeries(chart, nativeSeries, requestRedraw(redraw));
 	    }
 	}
 	return true;
@@ -2370,11 +2551,9 @@ public abstract class BaseChart<T> extends Widget {
 	if (isRendered()) {
 	    JsArrayString selectedSeriesIds = nativeGetSelectedSeriesIds(chart);
 	    for (int i = 0; i < selectedSeriesIds.length(); i++) {
-		String selectedSeriesId = selectedSeriesIds.get(i);
-		for (Series series : seriesList) {
-		    if (series.getId().equals(selectedSeriesId)) {
-			selectedSeries.add(series);
-		    }
+		Series series = seriesById.get(selectedSeriesIds.get(i));
+		if (series != null) {
+		    selectedSeries.add(series);
 		}
 	    }
 	}
@@ -2500,7 +2679,9 @@ public abstract class BaseChart<T> extends Widget {
 	    return xAxes.get(axisIndex);
 	}
 	for (int i = xAxes.size(); i <= axisIndex; i++) {
-	    xAxes.add(new XAxis(this));
+	    final XAxis xAxis = new XAxis(this);
+	    xAxes.add(xAxis);
+	    axesById.put(xAxis.getId(), xAxis);
 	}
 	return xAxes.get(axisIndex);
     }
@@ -2530,7 +2711,9 @@ public abstract class BaseChart<T> extends Widget {
 	    return yAxes.get(axisIndex);
 	}
 	for (int i = yAxes.size(); i <= axisIndex; i++) {
-	    yAxes.add(new YAxis(this));
+	    final YAxis yAxis = new YAxis(this);
+	    yAxes.add(yAxis);
+	    axesById.put(yAxis.getId(), yAxis);
 	}
 	return yAxes.get(axisIndex);
     }
@@ -2546,19 +2729,7 @@ public abstract class BaseChart<T> extends Widget {
 	if (axisId == null) {
 	    return null;
 	}
-	for (XAxis xAxis : xAxes) {
-	    if (axisId.equals(xAxis.getId())) {
-		return xAxis;
-	    }
-	}
-
-	for (YAxis yAxis : yAxes) {
-	    if (axisId.equals(yAxis.getId())) {
-		return yAxis;
-	    }
-	}
-
-	return null;
+	return axesById.get(axisId);
     }
 
     /**
@@ -2589,11 +2760,170 @@ public abstract class BaseChart<T> extends Widget {
      */
     public T redraw() {
 	if (isRendered()) {
+	    // Any batched redraw that is still pending is taken care of by this one
+	    coalescedRedrawCount += pendingRedrawCount;
+	    pendingRedrawCount = 0;
 	    nativeRedraw(chart);
 	}
 	return returnThis();
     }
 
+    /**
+     * An enumeration of the ways in which a chart can coalesce the redraws requested by the methods that update
+     * its series, axes or points, which can be passed to the {@link BaseChart#setRedrawBatching(RedrawBatching)} method.
+     *
+     * @since 1.7.0
+     */
+    public enum RedrawBatching {
+
+	/**
+	 * Every method called with the "redraw" option set to true redraws the chart right away (the default).
+	 */
+	NONE,
+
+	/**
+	 * Redraws requested by the update methods are coalesced into a single redraw on the next animation frame.
+	 */
+	ANIMATION_FRAME,
+
+	/**
+	 * Redraws requested by the update methods are coalesced into a single redraw once the current browser
+	 * event has been handled (via <code>Scheduler.scheduleFinally()</code>), which keeps the chart in step
+	 * with the rest of the page at the cost of possibly redrawing more than once per frame.
+	 */
+	FINALLY
+
+    }
+
+    private RedrawBatching redrawBatching = RedrawBatching.NONE;
+
+    // The number of redraws requested since the last batched redraw, and the running totals reported by the counters
+    private int pendingRedrawCount;
+    private int batchedRedrawCount;
+    private int coalescedRedrawCount;
+
+    /**
+     * Sets whether the redraws requested by the methods that update the chart (e.g. {@link Series#addPoint(Number)},
+     * {@link Series#setPoints(Number[])}, {@link Series#setVisible(boolean)}, {@link #removeSeries(Series)} or
+     * {@link Axis#setExtremes(Number, Number)}) should be coalesced rather than each of them redrawing the chart right
+     * away.  When batching is enabled, a method called with its "redraw" option set to true only flags the chart as
+     * needing to be redrawn, and the chart is then redrawn once for all of the changes made in the meantime.  This
+     * makes it unnecessary to pass "false" for the redraw option of every call and call {@link #redraw()} afterwards.
+     * Note that a custom {@link Animation} passed to the individual methods isn't used for the batched redraw, which
+     * instead uses the default animation of the chart.  Defaults to {@link RedrawBatching#NONE}.
+     *
+     * @param redrawBatching When the coalesced redraw should happen, or {@link RedrawBatching#NONE} to redraw right away.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setRedrawBatching(RedrawBatching redrawBatching) {
+	this.redrawBatching = redrawBatching != null ? redrawBatching : RedrawBatching.NONE;
+	if (this.redrawBatching == RedrawBatching.NONE && pendingRedrawCount > 0) {
+	    redraw();
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns the way in which the chart coalesces redraws, as set via {@link #setRedrawBatching(RedrawBatching)}.
+     *
+     * @return When the coalesced redraw happens, or {@link RedrawBatching#NONE} if the chart is redrawn right away.
+     * @since 1.7.0
+     */
+    public RedrawBatching getRedrawBatching() {
+	return redrawBatching;
+    }
+
+    /**
+     * Returns the number of times the chart has been redrawn on behalf of the update methods while redraw batching
+     * was enabled (see {@link #setRedrawBatching(RedrawBatching)}).
+     *
+     * @return The number of batched redraws that have been run.
+     * @since 1.7.0
+     */
+    public int getBatchedRedrawCount() {
+	return batchedRedrawCount;
+    }
+
+    /**
+     * Returns the number of redraws requested by the update methods while redraw batching was enabled that were
+     * saved by folding them into another redraw (see {@link #setRedrawBatching(RedrawBatching)}).  For example, 50
+     * calls to {@link Series#addPoint(Number)} within the same frame count as 49 coalesced redraws and 1 batched redraw.
+     *
+     * @return The number of redraws that were requested but not run on their own.
+     * @since 1.7.0
+     */
+    public int getCoalescedRedrawCount() {
+	return coalescedRedrawCount;
+    }
+
+    /**
+     * Reset the counters reported by {@link #getBatchedRedrawCount()} and {@link #getCoalescedRedrawCount()} to zero.
+     *
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T resetRedrawCounts() {
+	batchedRedrawCount = 0;
+	coalescedRedrawCount = 0;
+	return returnThis();
+    }
+
+    // Purposefully package scope, as all of the update methods pass their "redraw" option through here before
+    // handing it to Highcharts.  Returns whether Highcharts should still redraw the chart itself.
+    boolean requestRedraw(boolean redraw) {
+	if (!redraw || redrawBatching == RedrawBatching.NONE || !isRendered()) {
+	    return redraw;
+	}
+	if (pendingRedrawCount++ == 0) {
+	    if (redrawBatching == RedrawBatching.ANIMATION_FRAME && renderScheduler != null) {
+		renderScheduler.schedule(this, new Scheduler.ScheduledCommand() {
+		    public void execute() {
+			runBatchedRedraw();
+		    }
+		});
+	    } else if (redrawBatching == RedrawBatching.ANIMATION_FRAME) {
+		AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+		    public void execute(double timestamp) {
+			runBatchedRedraw();
+		    }
+		});
+	    } else {
+		Scheduler.get().scheduleFinally(new Scheduler.ScheduledCommand() {
+		    public void execute() {
+			runBatchedRedraw();
+		    }
+		});
+	    }
+	}
+	return false;
+    }
+
+    // Points only hold on to their native point, so they find their way back to the chart through it
+    static boolean requestRedraw(JavaScriptObject nativePoint, boolean redraw) {
+	if (!redraw) {
+	    return false;
+	}
+	final BaseChart<?> chart = nativeGetPointChart(nativePoint);
+	return chart != null ? chart.requestRedraw(true) : true;
+    }
+
+    private static native BaseChart<?> nativeGetPointChart(JavaScriptObject nativePoint) /*-{
+	var series = nativePoint.series;
+	return series && series.chart && series.chart.gwtChart ? series.chart.gwtChart : null;
+    }-*/;
+
+    private void runBatchedRedraw() {
+	if (pendingRedrawCount > 0) {
+	    coalescedRedrawCount += pendingRedrawCount - 1;
+	    batchedRedrawCount++;
+	    pendingRedrawCount = 0;
+	    if (isRendered()) {
+		nativeRedraw(chart);
+	    }
+	}
+    }
+
     /**
      * Returns true if the chart has already been rendered to the DOM, or false otherwise.
      *
@@ -2607,11 +2937,548 @@ public abstract class BaseChart<T> extends Widget {
     
     private Drilldown drilldown;
 
+    // The sections of the flags that tell the JS function which custom callback functions it needs to wire up
+    private static final int X_AXIS_WIRING = 0;
+    private static final int Y_AXIS_WIRING = 1;
+    private static final int LABELS_WIRING = 2;
+    private static final int EVENTS_WIRING = 3;
+
+    // The flags of each section as of when the chart was last rendered, along with a signature of the handlers each
+    // section was generated from, so that re-attaching a chart whose handlers haven't changed can reuse them as is
+    private final JavaScriptObject[] wiringFlags = new JavaScriptObject[4];
+    private final String[] wiringSignatures = new String[4];
+
+    // The scheduler that renders the chart (and applies its live updates) within a per-frame budget, if any
+    private RenderScheduler renderScheduler;
+    private double lastInteractionTime;
+
+    private final Scheduler.ScheduledCommand renderCommand = new Scheduler.ScheduledCommand() {
+	public void execute() {
+	    if (isAttached() && !isRendered()) {
+		renderChart();
+	    }
+	}
+    };
+
+    /**
+     * Sets the scheduler that should be used to render this chart, rather than rendering it as soon as it's
+     * attached to the page.  This is intended for pages that attach many charts at once, where the scheduler
+     * then spreads the work of building the charts (and of applying their streaming updates and batched redraws)
+     * across animation frames, giving priority to the charts that are visible or were recently interacted with.
+     * Note that the chart isn't considered rendered (see {@link #isRendered()}) until the scheduler gets to it.
+     * See {@link RenderScheduler} for more details.  Defaults to null, which renders the chart right away.
+     *
+     * @param renderScheduler The scheduler to use (normally {@link RenderScheduler#get()}), or null to render right away.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setRenderScheduler(RenderScheduler renderScheduler) {
+	this.renderScheduler = renderScheduler;
+	if (renderScheduler != null) {
+	    sinkEvents(Event.ONMOUSEDOWN | Event.ONMOUSEOVER | Event.ONTOUCHSTART);
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns the scheduler that is used to render this chart, as set via {@link #setRenderScheduler(RenderScheduler)}.
+     *
+     * @return The scheduler in use, or null if the chart is rendered as soon as it's attached.
+     * @since 1.7.0
+     */
+    public RenderScheduler getRenderScheduler() {
+	return renderScheduler;
+    }
+
+    @Override
+    public void onBrowserEvent(Event event) {
+	// Keep track of when the user last interacted with the chart, as the render scheduler gives it priority for a while
+	lastInteractionTime = Duration.currentTimeMillis();
+	super.onBrowserEvent(event);
+    }
+
+    // The pool that native chart instances are recycled through, if any, and the fingerprint of the configuration of
+    // the chart as of when it was last rendered (which is what the native instance is pooled by)
+    private ChartPool chartPool;
+    private String chartFingerprint;
+
+    /**
+     * Sets the pool that the native Highcharts instance of this chart should be recycled through.  Once set, detaching
+     * the chart hands its native instance back to the pool (rather than destroying it), and rendering the chart takes
+     * over an idle native instance of the same configuration from the pool when there is one, which then only has to
+     * be given the data of the chart's series.  This is intended for lists and grids that show many small, identically
+     * configured charts.  See {@link ChartPool} for more details.  Defaults to null, which constructs a new native
+     * instance every time the chart is rendered.
+     *
+     * @param chartPool The pool to use (normally {@link ChartPool#get()}), or null to not recycle native chart instances.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setChartPool(ChartPool chartPool) {
+	this.chartPool = chartPool;
+	if (chartPool == null) {
+	    chartFingerprint = null;
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns the pool that the native Highcharts instance of this chart is recycled through, as set via {@link #setChartPool(ChartPool)}.
+     *
+     * @return The pool in use, or null if native chart instances aren't recycled.
+     * @since 1.7.0
+     */
+    public ChartPool getChartPool() {
+	return chartPool;
+    }
+
+    // Two charts can share a native instance when they're of the same type, wire up the same callbacks, and have the same
+    // options aside from their data and the ids of their series and axes (which are generated and set again on adoption)
+    private String getFingerprint(JavaScriptObject nativeOptions) {
+	final StringBuilder fingerprint = new StringBuilder(getChartTypeName()).append('|');
+	for (String signature : wiringSignatures) {
+	    fingerprint.append(signature).append('|');
+	}
+	fingerprint.append(toolTip != null && toolTip.getToolTipFormatter() != null ? '1' : '0');
+	fingerprint.append(legend != null && legend.getLabelsFormatter() != null ? '1' : '0');
+	fingerprint.append(toolTip != null ? toolTip.getFormatterTemplate() : null).append('|');
+	return fingerprint.append(nativeGetOptionsFingerprint(nativeOptions)).toString();
+    }
+
+    private static native String nativeGetOptionsFingerprint(JavaScriptObject options) /*-{
+	var series = options.series || [], axes = [].concat(options.xAxis || [], options.yAxis || []);
+	var contains = function(list, item) {
+	    for (var i = 0; i < list.length; i++) {
+		if (list[i] === item) {
+		    return true;
+		}
+	    }
+	    return false;
+	};
+	return $wnd.JSON.stringify(options, function(key, value) {
+	    if ((key === 'renderTo' && this === options.chart) || ((key === 'id' || key === 'data') && contains(series, this))
+		    || (key === 'id' && contains(axes, this))) {
+		return undefined;
+	    }
+	    return value;
+	});
+    }-*/;
+
+    // Moves a pooled chart into this chart's element and makes it our own, giving its series and axes our ids and its
+    // series our data, and then resetting any zoom before fitting it to its new container
+    private native void nativeAdoptChart(JavaScriptObject chart, Element renderTo, JavaScriptObject options) /*-{
+	var series = options.series || [], xAxes = [].concat(options.xAxis || []), yAxes = [].concat(options.yAxis || []), i;
+	renderTo.appendChild(chart.container);
+	chart.renderTo = renderTo;
+	chart.gwtSetOwner(this);
+	chart.gwtChart = this;
+	for (i = 0; i < series.length && i < chart.series.length; i++) {
+	    chart.series[i].options.id = series[i].id;
+	    @org.moxieapps.gwt.highcharts.client.Series::nativeSetData(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Z)(chart.series[i], series[i].data || [], false);
+	    if (chart.series[i].visible !== (series[i].visible !== false)) {
+		chart.series[i].setVisible(series[i].visible !== false, false);
+	    }
+	}
+	for (i = 0; i < xAxes.length && i < chart.xAxis.length; i++) {
+	    chart.xAxis[i].options.id = xAxes[i].id;
+	    chart.xAxis[i].setExtremes(null, null, false);
+	}
+	for (i = 0; i < yAxes.length && i < chart.yAxis.length; i++) {
+	    chart.yAxis[i].options.id = yAxes[i].id;
+	    chart.yAxis[i].setExtremes(null, null, false);
+	}
+	chart.redraw(false);
+	chart.reflow();
+    }-*/;
+
+    // Purposefully package scope, for the RenderScheduler
+    double getLastInteractionTime() {
+	return lastInteractionTime;
+    }
+
+    // Purposefully package scope, returns whether the chart is displayed and (at least partly) within the browser window.
+    // Note that a chart that hasn't been rendered yet may not have a height, in which case its width is enough.
+    boolean isInViewport() {
+	return nativeIsInViewport(getElement());
+    }
+
+    private static native boolean nativeIsInViewport(Element element) /*-{
+	var rect = element.getBoundingClientRect(), doc = $doc.documentElement;
+	return (rect.width > 0 || rect.height > 0) && rect.bottom >= 0 && rect.right >= 0
+		&& rect.top < ($wnd.innerHeight || doc.clientHeight) && rect.left < ($wnd.innerWidth || doc.clientWidth);
+    }-*/;
+
+    // Whether or not to hold off on rendering the chart until it's actually visible
+    private boolean lazyRendering = false;
+
+    /**
+     * By default the chart is rendered as soon as it's attached to the page, even if it's far below the fold or
+     * within a panel that isn't currently shown (such as an unselected tab of a TabPanel, or a hidden widget
+     * of a DeckPanel).  Setting the lazy rendering option to 'true' instead holds off on building the chart until
+     * it's displayed with a non-zero size and is within the browser window.  Until then the chart behaves just
+     * like a chart that hasn't been attached yet, so any series that are added to it and any points set on or
+     * added to those series are held on to by the chart, and are all handed to Highcharts at once when the chart
+     * is finally rendered.  Visibility is checked whenever the browser window is scrolled or resized, as well as
+     * every 250 milliseconds while any lazy charts are waiting.  Defaults to 'false'.
+     *
+     * @param lazyRendering
+     *            'true' to wait until the chart is visible before rendering it, or 'false' to render it as soon as it's attached.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setLazyRendering(boolean lazyRendering) {
+	this.lazyRendering = lazyRendering;
+	if (!lazyRendering && VisibilityWatcher.isWatching(this)) {
+	    VisibilityWatcher.unwatch(this);
+	    startRendering();
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns whether the chart waits until it's visible before being rendered, as set via {@link #setLazyRendering(boolean)}.
+     *
+     * @return 'true' if the chart is rendered lazily. Defaults to 'false'.
+     * @since 1.7.0
+     */
+    public boolean isLazyRendering() {
+	return lazyRendering;
+    }
+
+    // Whether the chart has let go of its native instance while out of view, along with the inline size its element had
+    // before it was turned into a placeholder, and the offscreen policy (a negative delay meaning charts don't hibernate)
+    private boolean hibernated = false;
+    private String placeholderWidth;
+    private String placeholderHeight;
+    private int offscreenHibernationDelay = -1;
+    private double offscreenSince = -1;
+
+    /**
+     * Destroy the native Highcharts instance of the chart (along with all of its SVG elements) while retaining
+     * the data of its series, which is intended for long running pages with many charts that are mostly out of
+     * view.  The values of the points are pulled out of Highcharts into compact primitive columns (points that
+     * carry options of their own, such as a name or color, are held on to as Highcharts had them), and the chart
+     * element is left in place as an empty placeholder of the same size.  As soon as the chart is visible again
+     * it's rendered again through the normal rendering path, including any series or points that were added to it
+     * in the meantime.  Note that the zoom level of the chart and any other state that only lives in Highcharts
+     * (aside from which series are hidden) isn't retained.  Also see {@link #setHibernateWhenOffscreen(int)} to have
+     * charts hibernate on their own.  Does nothing if the chart isn't currently rendered.
+     *
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T hibernate() {
+	if (!isRendered()) {
+	    return returnThis();
+	}
+	final int width = nativeGetChartWidth(chart);
+	final int height = nativeGetChartHeight(chart);
+	cancelScheduledWork();
+	for (Series series : seriesList) {
+	    series.hibernate();
+	}
+	destroyChart();
+
+	final com.google.gwt.dom.client.Style style = getElement().getStyle();
+	placeholderWidth = style.getWidth();
+	placeholderHeight = style.getHeight();
+	style.setWidth(width, com.google.gwt.dom.client.Style.Unit.PX);
+	style.setHeight(height, com.google.gwt.dom.client.Style.Unit.PX);
+	hibernated = true;
+	VisibilityWatcher.watch(this);
+	return returnThis();
+    }
+
+    /**
+     * Returns whether the chart is currently hibernated, either via {@link #hibernate()} or by having been out of view
+     * for longer than the delay set via {@link #setHibernateWhenOffscreen(int)}.
+     *
+     * @return 'true' if the chart is waiting to become visible again in order to be rendered again.
+     * @since 1.7.0
+     */
+    public boolean isHibernated() {
+	return hibernated;
+    }
+
+    /**
+     * Sets how long (in milliseconds) the chart can be out of view (scrolled outside of the browser window, or within
+     * a panel that isn't shown) before it automatically {@link #hibernate() hibernates}, letting go of its native
+     * Highcharts instance and SVG elements until it's visible again.  Visibility is checked whenever the browser window
+     * is scrolled or resized, as well as every 250 milliseconds.  Defaults to -1, which means the chart never
+     * hibernates on its own.
+     *
+     * @param delay The time the chart can be out of view before it hibernates, or -1 to disable hibernation.
+     * @return A reference to this {@link BaseChart} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setHibernateWhenOffscreen(int delay) {
+	this.offscreenHibernationDelay = delay;
+	this.offscreenSince = -1;
+	if (isRendered()) {
+	    if (delay >= 0) {
+		VisibilityWatcher.watch(this);
+	    } else {
+		VisibilityWatcher.unwatch(this);
+	    }
+	}
+	return returnThis();
+    }
+
+    /**
+     * Returns how long (in milliseconds) the chart can be out of view before it automatically hibernates, as set via
+     * {@link #setHibernateWhenOffscreen(int)}.
+     *
+     * @return The time the chart can be out of view before it hibernates, or -1 if it never hibernates on its own.
+     * @since 1.7.0
+     */
+    public int getHibernateWhenOffscreen() {
+	return offscreenHibernationDelay;
+    }
+
+    // Purposefully package scope, called by the VisibilityWatcher with the result of checking whether the chart is visible
+    void onVisibilityChecked(boolean visible) {
+	if (!isRendered()) {
+	    // A lazy or hibernated chart that is waiting to become visible
+	    if (visible && isAttached()) {
+		VisibilityWatcher.unwatch(this);
+		startRendering();
+	    }
+	} else if (visible) {
+	    offscreenSince = -1;
+	} else {
+	    final double now = Duration.currentTimeMillis();
+	    if (offscreenSince < 0) {
+		offscreenSince = now;
+	    }
+	    if (now - offscreenSince >= offscreenHibernationDelay) {
+		hibernate();
+	    }
+	}
+    }
+
+    // Gives the element of a hibernated chart back the size it had before it was turned into a placeholder
+    private void restorePlaceholderSize() {
+	if (!hibernated) {
+	    return;
+	}
+	final com.google.gwt.dom.client.Style style = getElement().getStyle();
+	style.setProperty("width", placeholderWidth);
+	style.setProperty("height", placeholderHeight);
+	placeholderWidth = null;
+	placeholderHeight = null;
+	hibernated = false;
+    }
+
     @Override
     protected void onLoad() {
+	if (detachPending) {
+	    // Moved to another parent, so the live chart just needs to fit its new container
+	    detachPending = false;
+	    nativeReflow(chart);
+	    resumeScheduledWork();
+	    if (offscreenHibernationDelay >= 0) {
+		VisibilityWatcher.watch(this);
+	    }
+	} else if (lazyRendering && !isInViewport()) {
+	    VisibilityWatcher.watch(this);
+	} else {
+	    startRendering();
+	}
+    }
+
+    // Drops everything the chart has queued on its render scheduler (the initial render, batched redraws and
+    // streaming flushes), so that none of it runs against a chart that's been detached or hibernated
+    private void cancelScheduledWork() {
+	if (renderScheduler == null) {
+	    return;
+	}
+	renderScheduler.cancel(this);
+	for (Series series : seriesList) {
+	    series.cancelStreamingFlush();
+	}
+    }
+
+    // Queues the redraws and streaming flushes that were dropped when a live chart was moved to another parent again
+    private void resumeScheduledWork() {
+	if (pendingRedrawCount > 0) {
+	    pendingRedrawCount = 0;
+	    if (requestRedraw(true)) {
+		nativeRedraw(chart);
+	    }
+	}
+	for (Series series : seriesList) {
+	    series.resumeStreamingFlush();
+	}
+    }
+
+    private void startRendering() {
+	if (renderScheduler != null) {
+	    renderScheduler.schedule(this, renderCommand);
+	} else {
+	    renderChart();
+	}
+    }
+
+    private void renderChart() {
+	restorePlaceholderSize();
+
+	// Only regenerate the sections of the wiring flags whose handlers have changed since the chart was last rendered
+	final JavaScriptObject xAxisWiring = getWiring(X_AXIS_WIRING, getXAxisWiringSignature());
+	final JavaScriptObject yAxisWiring = getWiring(Y_AXIS_WIRING, getYAxisWiringSignature());
+	final JavaScriptObject labelsWiring = getWiring(LABELS_WIRING, getLabelsWiringSignature());
+	final JavaScriptObject eventsWiring = getWiring(EVENTS_WIRING, getEventsWiringSignature());
+
+	formatterCache = formatterCacheSize > 0 ? nativeCreateFormatterCache(formatterCacheSize) : null;
+	final JavaScriptObject nativeOptions = createNativeOptions();
+	chartFingerprint = chartPool != null ? getFingerprint(nativeOptions) : null;
+	final JavaScriptObject pooledChart = chartFingerprint != null ? chartPool.acquire(chartFingerprint) : null;
+	if (pooledChart != null) {
+	    chart = pooledChart;
+	    nativeAdoptChart(pooledChart, getElement(), nativeOptions);
+	} else {
+	    chart = nativeRenderChart(getChartTypeName(), nativeOptions, toolTip != null && toolTip.getToolTipFormatter() != null,
+			toolTip != null ? toolTip.getFormatterTemplate() : null,
+			legend != null && legend.getLabelsFormatter() != null, nativeGetFlags(eventsWiring, "chart"), nativeGetFlags(eventsWiring, "series"),
+			nativeGetFlags(eventsWiring, "point"), nativeGetFlags(xAxisWiring, "events"), nativeGetFlags(yAxisWiring, "events"),
+			nativeGetFlags(xAxisWiring, "labelFormatters"), nativeGetFlags(yAxisWiring, "labelFormatters"), nativeGetFlags(yAxisWiring, "stackLabelFormatters"),
+			nativeGetFlags(xAxisWiring, "titleEvents"), nativeGetFlags(yAxisWiring, "titleEvents"), nativeGetFlags(xAxisWiring, "plotBandEvents"),
+			nativeGetFlags(yAxisWiring, "plotBandEvents"), nativeGetFlags(xAxisWiring, "plotLineEvents"), nativeGetFlags(yAxisWiring, "plotLineEvents"),
+			nativeGetFlags(labelsWiring, "plotOptions"), nativeGetFlags(labelsWiring, "series"), nativeGetFlags(labelsWiring, "drilldown"));
+	}
+
+	// Now that we're rendered we're going to switch to maintaining everything within the DOM, so we can dump
+	// any series data that we were managing internally (along with the series array in the options, which
+	// gets rebuilt the next time the chart is rendered anyway)
+	for (Series series : seriesList) {
+	    series.clearInternalPointsList();
+	    series.setRendered(true);
+	}
+	configurable.removeOption("series");
+
+	offscreenSince = -1;
+	if (offscreenHibernationDelay >= 0) {
+	    VisibilityWatcher.watch(this);
+	}
+
+    }
+
+    private JavaScriptObject getWiring(int section, String signature) {
+	if (wiringFlags[section] == null || !signature.equals(wiringSignatures[section])) {
+	    switch (section) {
+	    case X_AXIS_WIRING:
+		wiringFlags[section] = createXAxisWiring();
+		break;
+	    case Y_AXIS_WIRING:
+		wiringFlags[section] = createYAxisWiring();
+		break;
+	    case LABELS_WIRING:
+		wiringFlags[section] = createLabelsWiring();
+		break;
+	    default:
+		wiringFlags[section] = createEventsWiring();
+		break;
+	    }
+	    wiringSignatures[section] = signature;
+	}
+	return wiringFlags[section];
+    }
+
+    private static native JavaScriptObject nativeGetFlags(JavaScriptObject wiring, String name) /*-{
+	return wiring[name];
+    }-*/;
+
+    // The signatures below need to cover everything that the corresponding "create" method reads, in the same order
+    private static void appendFlag(StringBuilder signature, boolean flag) {
+	signature.append(flag ? '1' : '0');
+    }
+
+    private static void appendAxisWiringSignature(StringBuilder signature, Axis<?> axis) {
+	final AxisTitle axisTitle = axis.getAxisTitle();
+	if (axisTitle != null) {
+	    signature.append('t');
+	    appendFlag(signature, axisTitle.getAxisTitleClickEventHandler() != null);
+	    appendFlag(signature, axisTitle.getAxisTitleDblClickEventHandler() != null);
+	    appendFlag(signature, axisTitle.getAxisTitleRightClickEventHandler() != null);
+	}
+	for (PlotBand plotBand : axis.getPlotBands()) {
+	    signature.append('b');
+	    appendFlag(signature, plotBand.getClickEventHandler() != null);
+	    appendFlag(signature, plotBand.getDblClickEventHandler() != null);
+	    appendFlag(signature, plotBand.getRightClickEventHandler() != null);
+	}
+	for (PlotLine plotLine : axis.getPlotLines()) {
+	    signature.append('l');
+	    appendFlag(signature, plotLine.getClickEventHandler() != null);
+	}
+	signature.append(';');
+    }
+
+    private String getXAxisWiringSignature() {
+	final StringBuilder signature = new StringBuilder();
+	for (int i = 0, xAxesSize = xAxes.size(); i < xAxesSize; i++) {
+	    XAxis xAxis = xAxes.get(i);
+	    appendFlag(signature, xAxis.getLabels() != null && xAxis.getLabels().getFormatter() != null);
+	    appendFlag(signature, xAxis.getAxisSetExtremesEventHandler() != null || hasDownsampledSeries(i));
+	    appendAxisWiringSignature(signature, xAxis);
+	}
+	return signature.toString();
+    }
+
+    private String getYAxisWiringSignature() {
+	final StringBuilder signature = new StringBuilder();
+	for (YAxis yAxis : yAxes) {
+	    appendFlag(signature, yAxis.getLabels() != null && yAxis.getLabels().getFormatter() != null);
+	    appendFlag(signature, yAxis.getStackLabels() != null && yAxis.getStackLabels().getFormatter() != null);
+	    appendFlag(signature, yAxis.getAxisSetExtremesEventHandler() != null);
+	    appendAxisWiringSignature(signature, yAxis);
+	}
+	return signature.toString();
+    }
+
+    private String getLabelsWiringSignature() {
+	final StringBuilder signature = new StringBuilder();
+	for (String type : plotOptionsByType.keySet()) {
+	    signature.append(type).append('=').append(getDataLabelsFormatterFlag(plotOptionsByType.get(type))).append(';');
+	}
+	for (Series series : seriesList) {
+	    signature.append(getDataLabelsFormatterFlag(series)).append(series.getDrilldown() ? 'd' : ';');
+	}
+	return signature.toString();
+    }
+
+    private String getEventsWiringSignature() {
+	final StringBuilder signature = new StringBuilder();
+	appendFlag(signature, chartClickEventHandler != null);
+	appendFlag(signature, chartLoadEventHandler != null);
+	appendFlag(signature, chartRedrawEventHandler != null);
+	appendFlag(signature, chartSelectionEventHandler != null);
+	if (seriesPlotOptions != null) {
+	    appendFlag(signature, seriesPlotOptions.getSeriesClickEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesDblClickEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesCheckboxClickEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesHideEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesLegendItemClickEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesMouseOverEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesMouseOutEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getSeriesShowEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointClickEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointDragEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointMouseOverEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointMouseOutEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointRemoveEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointSelectEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointUnselectEventHandler() != null);
+	    appendFlag(signature, seriesPlotOptions.getPointUpdateEventHandler() != null);
+	}
+	signature.append(';');
+	appendFlag(signature, isPersistent() || (seriesPlotOptions != null && seriesPlotOptions.getPointDropEventHandler() != null));
+	if (piePlotOptions != null) {
+	    appendFlag(signature, piePlotOptions.getPointLegendItemClickEventHandler() != null);
+	}
+	return signature.toString();
+    }
 
-	// Build some arrays that we can pass into the JS function so that it knows how many custom callback functions it needs to wire
-	// up on the client side for formatter functions and event handlers.
+    private JavaScriptObject createXAxisWiring() {
 	JSONArray xAxisLabelFormatters = new JSONArray();
 	JSONArray xAxisEventHandlers = new JSONArray();
 	JSONArray xAxisTitleEventHandlers = new JSONArray();
@@ -2622,7 +3489,7 @@ public abstract class BaseChart<T> extends Widget {
 	    xAxisLabelFormatters.set(i, JSONBoolean.getInstance(xAxis.getLabels() != null && xAxis.getLabels().getFormatter() != null));
 
 	    JSONObject axisEventHandlers = new JSONObject();
-	    axisEventHandlers.put("setExtremes", JSONBoolean.getInstance(xAxis.getAxisSetExtremesEventHandler() != null));
+	    axisEventHandlers.put("setExtremes", JSONBoolean.getInstance(xAxis.getAxisSetExtremesEventHandler() != null || hasDownsampledSeries(i)));
 	    JSONObject axisTitleEventHandler = new JSONObject();
 	    JSONArray plotBandEventHandlers = new JSONArray();
 	    JSONArray plotLineEventHandlers = new JSONArray();
@@ -2657,6 +3524,16 @@ public abstract class BaseChart<T> extends Widget {
 
 	}
 
+	JSONObject wiring = new JSONObject();
+	wiring.put("labelFormatters", xAxisLabelFormatters);
+	wiring.put("events", xAxisEventHandlers);
+	wiring.put("titleEvents", xAxisTitleEventHandlers);
+	wiring.put("plotBandEvents", xAxisPlotBandEventHandlers);
+	wiring.put("plotLineEvents", xAxisPlotLineEventHandlers);
+	return wiring.getJavaScriptObject();
+    }
+
+    private JavaScriptObject createYAxisWiring() {
 	JSONArray yAxisLabelFormatters = new JSONArray();
 	JSONArray yAxisStackLabelFormatters = new JSONArray();
 	JSONArray yAxisEventHandlers = new JSONArray();
@@ -2705,105 +3582,99 @@ public abstract class BaseChart<T> extends Widget {
 	    yAxisPlotLineEventHandlers.set(i, plotLineEventHandlers);
 	}
 
-	// Build a similar object for dealing with all of the data label formatters that may be set on the plot options
+	JSONObject wiring = new JSONObject();
+	wiring.put("labelFormatters", yAxisLabelFormatters);
+	wiring.put("stackLabelFormatters", yAxisStackLabelFormatters);
+	wiring.put("events", yAxisEventHandlers);
+	wiring.put("titleEvents", yAxisTitleEventHandlers);
+	wiring.put("plotBandEvents", yAxisPlotBandEventHandlers);
+	wiring.put("plotLineEvents", yAxisPlotLineEventHandlers);
+	return wiring.getJavaScriptObject();
+    }
+
+    private JavaScriptObject createLabelsWiring() {
+
+	// Data label formatters that may be set on the plot options (by series type)
 	JSONObject plotOptionsLabelFormatters = new JSONObject();
-	plotOptionsLabelFormatters.put("area", hasDataLabelsFormatter(areaPlotOptions));
-	plotOptionsLabelFormatters.put("arearange", hasDataLabelsFormatter(areaRangePlotOptions));
-	plotOptionsLabelFormatters.put("areaspline", hasDataLabelsFormatter(areaSplinePlotOptions));
-	plotOptionsLabelFormatters.put("areasplinerange", hasDataLabelsFormatter(areaSplineRangePlotOptions));
-	plotOptionsLabelFormatters.put("bar", hasDataLabelsFormatter(barPlotOptions));
-	plotOptionsLabelFormatters.put("box", hasDataLabelsFormatter(boxPlotOptions));
-	plotOptionsLabelFormatters.put("bubble", hasDataLabelsFormatter(bubblePlotOptions));
-	plotOptionsLabelFormatters.put("candlestick", hasDataLabelsFormatter(candlestickPlotOptions));
-	plotOptionsLabelFormatters.put("column", hasDataLabelsFormatter(columnPlotOptions));
-	plotOptionsLabelFormatters.put("columnrange", hasDataLabelsFormatter(columnRangePlotOptions));
-	plotOptionsLabelFormatters.put("errorbar", hasDataLabelsFormatter(errorBarPlotOptions));
-	plotOptionsLabelFormatters.put("funnel", hasDataLabelsFormatter(funnelPlotOptions));
-	plotOptionsLabelFormatters.put("gauge", hasDataLabelsFormatter(gaugePlotOptions));
-	plotOptionsLabelFormatters.put("line", hasDataLabelsFormatter(linePlotOptions));
-	plotOptionsLabelFormatters.put("pie", hasDataLabelsFormatter(piePlotOptions));
-	plotOptionsLabelFormatters.put("ohlc", hasDataLabelsFormatter(ohlcPlotOptions));
-	plotOptionsLabelFormatters.put("series", hasDataLabelsFormatter(seriesPlotOptions));
-	plotOptionsLabelFormatters.put("scatter", hasDataLabelsFormatter(scatterPlotOptions));
-	plotOptionsLabelFormatters.put("spline", hasDataLabelsFormatter(splinePlotOptions));
-	plotOptionsLabelFormatters.put("waterfall", hasDataLabelsFormatter(waterfallPlotOptions));
-
-	// And one more for dealing with any data label formatters that have been applied directly to a series
+	for (String type : plotOptionsByType.keySet()) {
+	    plotOptionsLabelFormatters.put(type, getDataLabelsFormatterFlag(plotOptionsByType.get(type)));
+	}
+
+	// Data label formatters that have been applied directly to a series
 	JSONArray seriesLabelFormatters = new JSONArray();
 	for (int i = 0, seriesListSize = seriesList.size(); i < seriesListSize; i++) {
 	    Series series = seriesList.get(i);
-	    seriesLabelFormatters.set(i, hasDataLabelsFormatter(series));
+	    seriesLabelFormatters.set(i, getDataLabelsFormatterFlag(series));
 	}
 
-	// Another one for events fired on the chart
+	JSONArray drilldownEventHandlers = new JSONArray();
+	int i = 0;
+	for (Series series : seriesList) {
+	    if (series.getDrilldown()) {
+		JSONObject drilldownEventHandler = new JSONObject();
+		drilldownEventHandler.put("click", JSONBoolean.getInstance(true));
+		drilldownEventHandlers.set(i++, drilldownEventHandler);
+	    }
+	}
+
+	JSONObject wiring = new JSONObject();
+	wiring.put("plotOptions", plotOptionsLabelFormatters);
+	wiring.put("series", seriesLabelFormatters);
+	wiring.put("drilldown", drilldownEventHandlers);
+	return wiring.getJavaScriptObject();
+    }
+
+    private JavaScriptObject createEventsWiring() {
+
+	// Events fired on the chart
 	JSONObject chartEventHandlers = new JSONObject();
-	chartEventHandlers.put("click", JSONBoolean.getInstance(chartClickEventHandler != null));
-	chartEventHandlers.put("load", JSONBoolean.getInstance(chartLoadEventHandler != null));
-	chartEventHandlers.put("redraw", JSONBoolean.getInstance(chartRedrawEventHandler != null));
-	chartEventHandlers.put("selection", JSONBoolean.getInstance(chartSelectionEventHandler != null));
+	putEventCode(chartEventHandlers, "click", CHART_CLICK, chartClickEventHandler != null);
+	putEventCode(chartEventHandlers, "load", CHART_LOAD, chartLoadEventHandler != null);
+	putEventCode(chartEventHandlers, "redraw", CHART_REDRAW, chartRedrawEventHandler != null);
+	putEventCode(chartEventHandlers, "selection", CHART_SELECTION, chartSelectionEventHandler != null);
 
-	// And two more for events that have been applied to the series (or the points within the series)
+	// Events that have been applied to the series (or the points within the series)
 	JSONObject seriesEventHandlers = new JSONObject();
 	JSONObject pointEventHandlers = new JSONObject();
 
 	if (seriesPlotOptions != null) {
 
 	    // Series event
-	    seriesEventHandlers.put("click", JSONBoolean.getInstance(seriesPlotOptions.getSeriesClickEventHandler() != null));
-	    seriesEventHandlers.put("dblclick", JSONBoolean.getInstance(seriesPlotOptions.getSeriesDblClickEventHandler() != null));
-	    seriesEventHandlers.put("checkboxClick", JSONBoolean.getInstance(seriesPlotOptions.getSeriesCheckboxClickEventHandler() != null));
-	    seriesEventHandlers.put("hide", JSONBoolean.getInstance(seriesPlotOptions.getSeriesHideEventHandler() != null));
-	    seriesEventHandlers.put("legendItemClick", JSONBoolean.getInstance(seriesPlotOptions.getSeriesLegendItemClickEventHandler() != null));
-	    seriesEventHandlers.put("mouseOver", JSONBoolean.getInstance(seriesPlotOptions.getSeriesMouseOverEventHandler() != null));
-	    seriesEventHandlers.put("mouseOut", JSONBoolean.getInstance(seriesPlotOptions.getSeriesMouseOutEventHandler() != null));
-	    seriesEventHandlers.put("show", JSONBoolean.getInstance(seriesPlotOptions.getSeriesShowEventHandler() != null));
+	    putEventCode(seriesEventHandlers, "click", SERIES_CLICK, seriesPlotOptions.getSeriesClickEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "dblclick", SERIES_DBLCLICK, seriesPlotOptions.getSeriesDblClickEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "checkboxClick", SERIES_CHECKBOX_CLICK, seriesPlotOptions.getSeriesCheckboxClickEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "hide", SERIES_HIDE, seriesPlotOptions.getSeriesHideEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "legendItemClick", SERIES_LEGEND_ITEM_CLICK, seriesPlotOptions.getSeriesLegendItemClickEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "mouseOver", SERIES_MOUSE_OVER, seriesPlotOptions.getSeriesMouseOverEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "mouseOut", SERIES_MOUSE_OUT, seriesPlotOptions.getSeriesMouseOutEventHandler() != null);
+	    putEventCode(seriesEventHandlers, "show", SERIES_SHOW, seriesPlotOptions.getSeriesShowEventHandler() != null);
 
 	    // Point events
-	    pointEventHandlers.put("click", JSONBoolean.getInstance(seriesPlotOptions.getPointClickEventHandler() != null));
-	    pointEventHandlers.put("drop", JSONBoolean.getInstance(seriesPlotOptions.getPointDropEventHandler() != null));
-	    pointEventHandlers.put("drag", JSONBoolean.getInstance(seriesPlotOptions.getPointDragEventHandler() != null));
-	    pointEventHandlers.put("mouseOver", JSONBoolean.getInstance(seriesPlotOptions.getPointMouseOverEventHandler() != null));
-	    pointEventHandlers.put("mouseOut", JSONBoolean.getInstance(seriesPlotOptions.getPointMouseOutEventHandler() != null));
-	    pointEventHandlers.put("remove", JSONBoolean.getInstance(seriesPlotOptions.getPointRemoveEventHandler() != null));
-	    pointEventHandlers.put("select", JSONBoolean.getInstance(seriesPlotOptions.getPointSelectEventHandler() != null));
-	    pointEventHandlers.put("unselect", JSONBoolean.getInstance(seriesPlotOptions.getPointUnselectEventHandler() != null));
-	    pointEventHandlers.put("update", JSONBoolean.getInstance(seriesPlotOptions.getPointUpdateEventHandler() != null));
+	    putEventCode(pointEventHandlers, "click", POINT_CLICK, seriesPlotOptions.getPointClickEventHandler() != null);
+	    putEventCode(pointEventHandlers, "drag", POINT_DRAG, seriesPlotOptions.getPointDragEventHandler() != null);
+	    putEventCode(pointEventHandlers, "mouseOver", POINT_MOUSE_OVER, seriesPlotOptions.getPointMouseOverEventHandler() != null);
+	    putEventCode(pointEventHandlers, "mouseOut", POINT_MOUSE_OUT, seriesPlotOptions.getPointMouseOutEventHandler() != null);
+	    putEventCode(pointEventHandlers, "remove", POINT_REMOVE, seriesPlotOptions.getPointRemoveEventHandler() != null);
+	    putEventCode(pointEventHandlers, "select", POINT_SELECT, seriesPlotOptions.getPointSelectEventHandler() != null);
+	    putEventCode(pointEventHandlers, "unselect", POINT_UNSELECT, seriesPlotOptions.getPointUnselectEventHandler() != null);
+	    putEventCode(pointEventHandlers, "update", POINT_UPDATE, seriesPlotOptions.getPointUpdateEventHandler() != null);
 
 	}
 
+	// Persistent charts always listen for drops, so that the points they hold on to can be synced once a drag ends
+	putEventCode(pointEventHandlers, "drop", POINT_DROP, isPersistent()
+		|| (seriesPlotOptions != null && seriesPlotOptions.getPointDropEventHandler() != null));
+
 	// Pie charts support one additional point event
 	if (piePlotOptions != null) {
-	    pointEventHandlers.put("legendItemClick", JSONBoolean.getInstance(piePlotOptions.getPointLegendItemClickEventHandler() != null));
-	}
-	
-	JSONArray drilldownEventHandlers = new JSONArray();
-	int i = 0;
-	for (Series series : seriesList) {
-	    if (series.getDrilldown()) {
-		JSONObject drilldownEventHandler = new JSONObject();
-		drilldownEventHandler.put("click", JSONBoolean.getInstance(true));
-		drilldownEventHandlers.set(i++, drilldownEventHandler);
-	    }
-	}
-	System.out.println(drilldownEventHandlers.size());
-
-	chart = nativeRenderChart(getChartTypeName(), createNativeOptions(), toolTip != null && toolTip.getToolTipFormatter() != null,
-		legend != null && legend.getLabelsFormatter() != null, chartEventHandlers.getJavaScriptObject(), seriesEventHandlers.getJavaScriptObject(),
-		pointEventHandlers.getJavaScriptObject(), xAxisEventHandlers.getJavaScriptObject(), yAxisEventHandlers.getJavaScriptObject(),
-		xAxisLabelFormatters.getJavaScriptObject(), yAxisLabelFormatters.getJavaScriptObject(), yAxisStackLabelFormatters.getJavaScriptObject(),
-		xAxisTitleEventHandlers.getJavaScriptObject(), yAxisTitleEventHandlers.getJavaScriptObject(), xAxisPlotBandEventHandlers.getJavaScriptObject(),
-		yAxisPlotBandEventHandlers.getJavaScriptObject(), xAxisPlotLineEventHandlers.getJavaScriptObject(), yAxisPlotLineEventHandlers.getJavaScriptObject(),
-		plotOptionsLabelFormatters.getJavaScriptObject(), seriesLabelFormatters.getJavaScriptObject(), drilldownEventHandlers.getJavaScriptObject());
-	
-	
-
-	// Now that we're rendered we're going to switch to maintaining everything within the DOM, so we can dump
-	// any series data that we were managing internally
-	for (Series series : seriesList) {
-	    series.clearInternalPointsList();
-	    series.setRendered(true);
+	    putEventCode(pointEventHandlers, "legendItemClick", POINT_LEGEND_ITEM_CLICK, piePlotOptions.getPointLegendItemClickEventHandler() != null);
 	}
 
+	JSONObject wiring = new JSONObject();
+	wiring.put("chart", chartEventHandlers);
+	wiring.put("series", seriesEventHandlers);
+	wiring.put("point", pointEventHandlers);
+	return wiring.getJavaScriptObject();
     }
 
     /**
@@ -2814,26 +3685,69 @@ public abstract class BaseChart<T> extends Widget {
      */
     protected abstract String getChartTypeName();
 
-    private JSONBoolean hasDataLabelsFormatter(PlotOptions plotOptions) {
-	return JSONBoolean.getInstance(plotOptions != null && plotOptions.getDataLabels() != null && plotOptions.getDataLabels().getFormatter() != null);
+    // The flag is the template itself when the labels use a formatter template (which is then compiled natively),
+    // or a distinct number when the labels use a batch formatter (as opposed to "true" for a regular formatter)
+    private static final int BATCH_DATA_LABELS_FORMATTER_FLAG = 2;
+
+    // The current plot options of the chart by series type (e.g. "area"), kept up to date by the setters
+    private final HashMap<String, PlotOptions<?>> plotOptionsByType = new HashMap<String, PlotOptions<?>>();
+
+    // Purposefully package scope, so that the chart sub classes with plot options of their own can keep the map up to date too
+    void putPlotOptions(String type, PlotOptions<?> plotOptions) {
+	if (plotOptions != null) {
+	    plotOptionsByType.put(type, plotOptions);
+	} else {
+	    plotOptionsByType.remove(type);
+	}
+    }
+
+    private JSONValue getDataLabelsFormatterFlag(PlotOptions<?> plotOptions) {
+	return getDataLabelsFormatterFlag(plotOptions != null ? plotOptions.getDataLabels() : null);
     }
 
-    private JSONBoolean hasDataLabelsFormatter(Series series) {
-	return JSONBoolean.getInstance(series != null && series.getPlotOptions() != null && series.getPlotOptions().getDataLabels() != null
-		&& series.getPlotOptions().getDataLabels().getFormatter() != null);
+    private JSONValue getDataLabelsFormatterFlag(Series series) {
+	return getDataLabelsFormatterFlag(series != null && series.getPlotOptions() != null ? series.getPlotOptions().getDataLabels() : null);
+    }
+
+    private static JSONValue getDataLabelsFormatterFlag(BaseDataLabels<?> dataLabels) {
+	if (dataLabels != null && dataLabels.getBatchFormatter() != null) {
+	    return new JSONNumber(BATCH_DATA_LABELS_FORMATTER_FLAG);
+	}
+	if (dataLabels != null && dataLabels.getFormatterTemplate() != null) {
+	    return new JSONString(dataLabels.getFormatterTemplate());
+	}
+	return JSONBoolean.getInstance(dataLabels != null && dataLabels.getFormatter() != null);
     }
 
     @Override
     protected void onUnload() {
-	if (isRendered()) {
+	VisibilityWatcher.unwatch(this);
+	cancelScheduledWork();
+	if (isRendered() && movable) {
+	    // Hold off on destroying the chart in case the widget is being moved to another parent
+	    if (!detachPending) {
+		detachPending = true;
+		Scheduler.get().scheduleDeferred(detachCommand);
+	    }
+	} else if (isRendered()) {
+	    destroyChart();
+	}
+	restorePlaceholderSize();
+    }
+
+    private void destroyChart() {
+	// Charts that are part of a pool hand their native instance back to it, unless the pool is already full
+	if (chartFingerprint == null || !chartPool.release(chartFingerprint, chart)) {
 	    nativeDestroy(chart);
-	    chart = null;
+	}
+	chart = null;
+	pendingRedrawCount = 0;
+	detachPending = false;
 
-	    // If they're going to move the widget to another parent, make sure that everything
-	    // starts off as if it's unrendered...
-	    for (Series series : seriesList) {
-		series.setRendered(false);
-	    }
+	// If they're going to move the widget to another parent (or render it again after hibernating),
+	// make sure that everything starts off as if it's unrendered...
+	for (Series series : seriesList) {
+	    series.setRendered(false);
 	}
     }
 
@@ -2895,11 +3809,16 @@ public abstract class BaseChart<T> extends Widget {
 	if (seriesOptions == null) {
 	    seriesOptions = new JSONObject();
 	}
+	if (series.hasFullResolutionData()) {
+	    // Only hand the representative subset of a downsampled series over to Highcharts
+	    seriesOptions.put("data", new JSONArray(series.createDownsampledData(Double.NaN, Double.NaN)));
+	    return seriesOptions;
+	}
 	JSONValue dataValue = seriesOptions.get("data");
 	if (dataValue == null || dataValue.isArray() == null) {
 	    seriesOptions.put("data", new JSONArray());
 	}
-	copyPointsToJSONArray(series.getPoints(), (JSONArray) seriesOptions.get("data"));
+	series.copyPointsToJSONArray((JSONArray) seriesOptions.get("data"));
 	return seriesOptions;
     }
 
@@ -2916,13 +3835,6 @@ public abstract class BaseChart<T> extends Widget {
 	return JSONNull.getInstance();
     }
 
-    private void copyPointsToJSONArray(Point[] points, JSONArray jsonArray) {
-	for (int i = 0, pointsLength = points.length; i < pointsLength; i++) {
-	    final Point point = points[i];
-	    jsonArray.set(i, convertPointToJSON(point));
-	}
-    }
-
     // Purposefully package scope so we can get to this method from the Series and Point classes as well
     JSONValue convertPointToJSON(Point point) {
 	JSONObject options = point.getOptions();
@@ -2971,16 +3883,29 @@ public abstract class BaseChart<T> extends Widget {
     // Purposefully package scope
     JSONValue addPointId(Point point, JSONObject options) {
 	if (isPersistent()) {
-	    String id = point.getId();
-	    if (id == null) {
-		id = Document.get().createUniqueId();
-		point.setId(id);
-	    }
-	    options.put("id", new JSONString(id));
+	    options.put("id", new JSONString(ensurePointId(point)));
 	}
 	return options;
     }
 
+    // Point ids only need to be unique within the page, so a simple counter is a lot cheaper than going through the DOM
+    private static final String POINT_ID_PREFIX = "highcharts-point-";
+    private static int pointIdCounter = 0;
+
+    // Purposefully package scope
+    String ensurePointId(Point point) {
+	String id = point.getId();
+	if (id == null && point.getOptions() != null && point.getOptions().get("id") != null && point.getOptions().get("id").isString() != null) {
+	    // Respect any id the point was given explicitly, so that it can still be looked up by it
+	    id = point.getOptions().get("id").isString().stringValue();
+	    point.setId(id);
+	} else if (id == null) {
+	    id = POINT_ID_PREFIX + (++pointIdCounter);
+	    point.setId(id);
+	}
+	return id;
+    }
+
     // Purposefully package scope
     static JSONValue addPointScalarValues(Point point, JSONObject options) {
 	Point.Type type = point.getType();
@@ -3024,7 +3949,7 @@ public abstract class BaseChart<T> extends Widget {
 	}
     }
 
-    private native JavaScriptObject nativeRenderChart(String chartTypeName, JavaScriptObject options, boolean toolTipFormatterFlag,
+    private native JavaScriptObject nativeRenderChart(String chartTypeName, JavaScriptObject options, boolean toolTipFormatterFlag, String toolTipFormatterTemplate,
 	    boolean legendLabelsFormatterFlag, JavaScriptObject chartEventHandlerFlags, JavaScriptObject seriesEventHandlerFlags,
 	    JavaScriptObject pointEventHandlerFlags, JavaScriptObject xAxisEventHandlerFlags, JavaScriptObject yAxisEventHandlerFlags,
 	    JavaScriptObject xAxisLabelFormatterFlags, JavaScriptObject yAxisLabelFormatterFlags, JavaScriptObject yAxisStackLabelFormatterFlags,
@@ -3039,9 +3964,9 @@ public abstract class BaseChart<T> extends Widget {
 							 if (type1.indexOf("gwt") < 0 && chartEventHandlerFlags[type1]) {
 							 options.chart.events = options.chart.events || {};
 							 options.chart.events[type1] = function(e) {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::chartEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, e, arguments.callee.type);
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::chartEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;I)(this, e, arguments.callee.code);
 							 };
-							 options.chart.events[type1].type = type1;
+							 options.chart.events[type1].code = chartEventHandlerFlags[type1];
 							 }
 							 }
 
@@ -3052,9 +3977,9 @@ public abstract class BaseChart<T> extends Widget {
 							 options.plotOptions.series = options.plotOptions.series || {};
 							 options.plotOptions.series.events = options.plotOptions.series.events || {};
 							 options.plotOptions.series.events[type2] = function(e) {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::seriesEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, e, arguments.callee.type);
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::seriesEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;I)(this, e, arguments.callee.code);
 							 };
-							 options.plotOptions.series.events[type2].type = type2;
+							 options.plotOptions.series.events[type2].code = seriesEventHandlerFlags[type2];
 							 }
 							 }
 
@@ -3066,9 +3991,9 @@ public abstract class BaseChart<T> extends Widget {
 							 options.plotOptions.series.point = options.plotOptions.series.point || {};
 							 options.plotOptions.series.point.events = options.plotOptions.series.point.events || {};
 							 options.plotOptions.series.point.events[type3] = function(e) {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::pointEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, e, arguments.callee.type);
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::pointEventCallback(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;I)(this, e, arguments.callee.code);
 							 };
-							 options.plotOptions.series.point.events[type3].type = type3;
+							 options.plotOptions.series.point.events[type3].code = pointEventHandlerFlags[type3];
 							 }
 							 }
 							 
@@ -3190,22 +4115,113 @@ public abstract class BaseChart<T> extends Widget {
 							 }
 							 }}
 
+							 // Compiles a formatter template (e.g. "{series.name}: {point.y:.2f}") into a function once, so that rendering a
+							 // label only runs through the precompiled parts of the template rather than calling back into GWT
+							 var compileTemplateValue = function(path, spec) {
+							 var decimals = -1, separator = '', dateFormat = null;
+							 var number = spec ? /^(,)?(?:\.(\d+))?([fd])$/.exec(spec) : null;
+							 if (spec && spec.charAt(0) == '%') {
+							 dateFormat = spec;
+							 } else if (number) {
+							 separator = number[1] ? undefined : '';
+							 decimals = number[2] ? parseInt(number[2], 10) : (number[3] == 'd' ? 0 : -1);
+							 }
+							 return function(context) {
+							 var value = context;
+							 for (var n = 0; n < path.length && value != null; n++) {
+							 value = value[path[n]];
+							 }
+							 if (value == null) {
+							 return '';
+							 } else if (dateFormat != null) {
+							 return $wnd.Highcharts.dateFormat(dateFormat, value);
+							 } else if (number && typeof value === 'number') {
+							 return $wnd.Highcharts.numberFormat(value, decimals, undefined, separator);
+							 }
+							 return String(value);
+							 };
+							 };
+							 var compileTemplate = function(template) {
+							 var parts = [], pattern = /\{([^{}:]+)(?::([^{}]*))?\}/g, last = 0, match;
+							 while ((match = pattern.exec(template)) !== null) {
+							 if (match.index > last) {
+							 parts.push(template.substring(last, match.index));
+							 }
+							 parts.push(compileTemplateValue(match[1].split('.'), match[2]));
+							 last = pattern.lastIndex;
+							 }
+							 if (last < template.length) {
+							 parts.push(template.substring(last));
+							 }
+							 return function() {
+							 var result = '';
+							 for (var n = 0; n < parts.length; n++) {
+							 result += typeof parts[n] === 'string' ? parts[n] : parts[n](this);
+							 }
+							 return result;
+							 };
+							 };
+
+							 // When the chart has a formatter cache, the output of the tooltip, legend and axis label formatters is memoized
+							 // by the inputs of the label (so that panning and zooming doesn't format the same ticks over and over again).  The
+							 // cache is bounded by keeping two generations of entries, where an entry that isn't used for a whole generation is let go.
+							 // The cache is checked against the formatter of the label first, so that replacing a formatter lets go of its old output.
+							 var memoize = function(kind, index, key, format) {
+							 var cache = self.@org.moxieapps.gwt.highcharts.client.BaseChart::formatterCache;
+							 if (!cache) {
+							 return format();
+							 }
+							 self.@org.moxieapps.gwt.highcharts.client.BaseChart::checkCachedFormatter(Ljava/lang/String;I)(kind, index);
+							 cache = self.@org.moxieapps.gwt.highcharts.client.BaseChart::formatterCache;
+							 var result = cache.current[key];
+							 if (result === undefined) {
+							 result = cache.previous[key];
+							 if (result === undefined) {
+							 result = format();
+							 }
+							 cache.current[key] = result;
+							 if (++cache.count >= cache.size) {
+							 cache.previous = cache.current;
+							 cache.current = {};
+							 cache.count = 0;
+							 }
+							 }
+							 return result;
+							 };
+							 var toolTipKey = function(context) {
+							 var key = 't|' + context.x;
+							 var points = context.points || [context];
+							 for (var p = 0; p < points.length; p++) {
+							 key += '|' + points[p].series.index + ':' + points[p].y;
+							 }
+							 return key;
+							 };
+
 							 // Add in GWT interceptor callback functions for the various formatters so that we can move from
 							 // the native JS world back to the Java world...
 							 if (toolTipFormatterFlag) {
 							 options.tooltip = options.tooltip || {};
 							 options.tooltip.formatter = function() {
-							 var result = self.@org.moxieapps.gwt.highcharts.client.BaseChart::toolTipFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;)(this);
+							 var context = this;
+							 var result = memoize('t', 0, toolTipKey(this), function() {
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::toolTipFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;)(context);
+							 });
 							 if (result == null) {
 							 return false;
 							 }
 							 return result;
 							 };
+							 } else if (toolTipFormatterTemplate != null) {
+							 options.tooltip = options.tooltip || {};
+							 options.tooltip.formatter = compileTemplate(toolTipFormatterTemplate);
 							 }
 							 if (legendLabelsFormatterFlag) {
 							 options.legend = options.legend || {};
 							 options.legend.labelFormatter = function() {
-							 var result = self.@org.moxieapps.gwt.highcharts.client.BaseChart::legendLabelsFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;)(this);
+							 var context = this;
+							 var result = memoize('l', 0, 'l|' + (this.series ? this.series.index + '.' + this.x : this.index) + '|' + this.name, function() {
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::legendLabelsFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;)(context);
+							 });
 							 if (result == null) {
 							 return false;
 							 }
@@ -3219,7 +4235,10 @@ public abstract class BaseChart<T> extends Widget {
 							 var xAxisB = xAxisLabelFormatterFlags.length == 1 ? options.xAxis : options.xAxis[i];
 							 xAxisB.labels = xAxisB.labels || {};
 							 xAxisB.labels.formatter = function() {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::xAxisLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(this, arguments.callee.index);
+							 var context = this, index = arguments.callee.index;
+							 return memoize('x', index, 'x' + index + '|' + this.value + '|' + this.isFirst + '|' + this.isLast + '|' + this.dateTimeLabelFormat, function() {
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::xAxisLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(context, index);
+							 });
 							 };
 							 xAxisB.labels.formatter.index = i;
 							 }
@@ -3230,25 +4249,59 @@ public abstract class BaseChart<T> extends Widget {
 							 if (yAxisLabelFormatterFlags[i]) {
 							 yAxisB.labels = yAxisB.labels || {};
 							 yAxisB.labels.formatter = function() {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::yAxisLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(this, arguments.callee.index);
+							 var context = this, index = arguments.callee.index;
+							 return memoize('y', index, 'y' + index + '|' + this.value + '|' + this.isFirst + '|' + this.isLast + '|' + this.dateTimeLabelFormat, function() {
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::yAxisLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(context, index);
+							 });
 							 };
 							 yAxisB.labels.formatter.index = i;
 							 }
 							 if (yAxisStackLabelFormatterFlags[i]) {
 							 yAxisB.stackLabels = yAxisB.stackLabels || {};
 							 yAxisB.stackLabels.formatter = function() {
-							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::yAxisStackLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(this, arguments.callee.index);
+							 var context = this, index = arguments.callee.index;
+							 return memoize('k', index, 'k' + index + '|' + this.x + '|' + this.total + '|' + this.isNegative, function() {
+							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::yAxisStackLabelFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(context, index);
+							 });
 							 };
 							 yAxisB.stackLabels.formatter.index = i;
 							 }
 							 }
 
+							 // Batch data label formatters are called once for all of the visible points of a series, and the labels they
+							 // return are then served natively until the points of the series are regenerated (or their data changes)
+							 var batchDataLabel = function(context, type, index) {
+							 var series = context.series, batch = series.gwtBatchDataLabels;
+							 if (!batch || batch.points !== series.points) {
+							 batch = series.gwtBatchDataLabels = { points: series.points };
+							 batch.labels = self.@org.moxieapps.gwt.highcharts.client.BaseChart::batchDataLabelsFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;I)(series, type, index) || [];
+							 for (var n = 0; n < series.points.length; n++) {
+							 if (series.points[n]) {
+							 series.points[n].gwtBatchIndex = n;
+							 }
+							 }
+							 }
+							 var label = batch.labels[context.point.gwtBatchIndex];
+							 return label != null ? label : '';
+							 };
+
 							 // Plot options data label formatters
 							 for (var type6 in plotOptionsLabelsFormatterFlags) {
 							 if (type6.indexOf("gwt") < 0 && plotOptionsLabelsFormatterFlags[type6]) {
 							 options.plotOptions = options.plotOptions || {};
 							 options.plotOptions[type6] = options.plotOptions[type6] || {};
 							 options.plotOptions[type6].dataLabels = options.plotOptions[type6].dataLabels || {};
+							 if (plotOptionsLabelsFormatterFlags[type6] === 2) {
+							 options.plotOptions[type6].dataLabels.formatter = function() {
+							 return batchDataLabel(this, arguments.callee.type, -1);
+							 };
+							 options.plotOptions[type6].dataLabels.formatter.type = type6;
+							 continue;
+							 }
+							 if (typeof plotOptionsLabelsFormatterFlags[type6] === 'string') {
+							 options.plotOptions[type6].dataLabels.formatter = compileTemplate(plotOptionsLabelsFormatterFlags[type6]);
+							 continue;
+							 }
 							 options.plotOptions[type6].dataLabels.formatter = function() {
 							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::plotOptionsLabelsFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, arguments.callee.type);
 							 };
@@ -3261,6 +4314,17 @@ public abstract class BaseChart<T> extends Widget {
 							 if (!seriesLabelsFormatterFlags[i]) continue;
 							 var series = options.series[i];
 							 series.dataLabels = series.dataLabels || {};
+							 if (seriesLabelsFormatterFlags[i] === 2) {
+							 series.dataLabels.formatter = function() {
+							 return batchDataLabel(this, null, arguments.callee.index);
+							 };
+							 series.dataLabels.formatter.index = i;
+							 continue;
+							 }
+							 if (typeof seriesLabelsFormatterFlags[i] === 'string') {
+							 series.dataLabels.formatter = compileTemplate(seriesLabelsFormatterFlags[i]);
+							 continue;
+							 }
 							 series.dataLabels.formatter = function() {
 							 return self.@org.moxieapps.gwt.highcharts.client.BaseChart::seriesLabelsFormatterCallback(Lcom/google/gwt/core/client/JavaScriptObject;I)(this, arguments.callee.index);
 							 };
@@ -3268,80 +4332,339 @@ public abstract class BaseChart<T> extends Widget {
 							 }
 					
 							 // Draw the chart!
-							 return new $wnd.Highcharts[chartTypeName](options);
+							 var chart = new $wnd.Highcharts[chartTypeName](options);
+							 chart.gwtChart = self;
+
+							 // Lets a ChartPool hand the chart over to another widget, which the callbacks above then call into instead
+							 chart.gwtSetOwner = function(owner) {
+							 self = owner;
+							 };
+
+							 // Any change to the data of a series (or to the series of the chart) is flagged until the next redraw, which
+							 // is when the memoized formatter output and any batch formatted data labels are let go
+							 var redraw = chart.redraw;
+							 chart.redraw = function() {
+							 var dirty = this.isDirtyLegend;
+							 for (var s = 0; s < this.series.length; s++) {
+							 if (this.series[s].isDirtyData) {
+							 dirty = true;
+							 delete this.series[s].gwtBatchDataLabels;
+							 }
+							 }
+							 var cache = self.@org.moxieapps.gwt.highcharts.client.BaseChart::formatterCache;
+							 if (dirty && cache) {
+							 @org.moxieapps.gwt.highcharts.client.BaseChart::nativeClearFormatterCache(Lcom/google/gwt/core/client/JavaScriptObject;)(cache);
+							 }
+							 return redraw.apply(this, arguments);
+							 };
+							 return chart;
 							 }-*/;
 
+    // Codes handed to the JS callbacks in place of the event type names (and only for the events that have
+    // a handler), so that dispatching an event is a single switch rather than a chain of string comparisons.
+    // Note that the codes start at 1 as the JS side treats a falsy code as "no handler".
+    private static final int CHART_CLICK = 1;
+    private static final int CHART_LOAD = 2;
+    private static final int CHART_REDRAW = 3;
+    private static final int CHART_SELECTION = 4;
+
+    private static final int SERIES_CLICK = 1;
+    private static final int SERIES_DBLCLICK = 2;
+    private static final int SERIES_CHECKBOX_CLICK = 3;
+    private static final int SERIES_HIDE = 4;
+    private static final int SERIES_LEGEND_ITEM_CLICK = 5;
+    private static final int SERIES_MOUSE_OVER = 6;
+    private static final int SERIES_MOUSE_OUT = 7;
+    private static final int SERIES_SHOW = 8;
+
+    private static final int POINT_CLICK = 1;
+    private static final int POINT_DROP = 2;
+    private static final int POINT_DRAG = 3;
+    private static final int POINT_MOUSE_OVER = 4;
+    private static final int POINT_MOUSE_OUT = 5;
+    private static final int POINT_REMOVE = 6;
+    private static final int POINT_SELECT = 7;
+    private static final int POINT_UNSELECT = 8;
+    private static final int POINT_UPDATE = 9;
+    private static final int POINT_LEGEND_ITEM_CLICK = 10;
+
+    private static void putEventCode(JSONObject eventHandlerFlags, String eventType, int code, boolean hasHandler) {
+	eventHandlerFlags.put(eventType, hasHandler ? new JSONNumber(code) : JSONBoolean.getInstance(false));
+    }
+
+    // The events that fire at pointer rate reuse a single wrapper each (re-targeted before every dispatch),
+    // so that hovering over a dense series doesn't create any garbage
+    private SeriesMouseOverEvent seriesMouseOverEvent;
+    private SeriesMouseOutEvent seriesMouseOutEvent;
+    private PointMouseOverEvent pointMouseOverEvent;
+    private PointMouseOutEvent pointMouseOutEvent;
+    private PointDragEvent pointDragEvent;
+
     @SuppressWarnings({ "UnusedDeclaration" })
-    private boolean chartEventCallback(JavaScriptObject chart, JavaScriptObject nativeEvent, String eventType) {
-	if ("click".equals(eventType) && chartClickEventHandler != null) {
-	    return chartClickEventHandler.onClick(new ChartClickEvent(nativeEvent));
-	} else if ("load".equals(eventType) && chartLoadEventHandler != null) {
-	    return chartLoadEventHandler.onLoad(new ChartLoadEvent(nativeEvent, chart));
-	} else if ("redraw".equals(eventType) && chartRedrawEventHandler != null) {
-	    return chartRedrawEventHandler.onRedraw(new ChartRedrawEvent(nativeEvent, chart));
-	} else if ("selection".equals(eventType) && chartSelectionEventHandler != null) {
-	    return chartSelectionEventHandler.onSelection(new ChartSelectionEvent(nativeEvent));
+    private boolean chartEventCallback(JavaScriptObject chart, JavaScriptObject nativeEvent, int eventCode) {
+	switch (eventCode) {
+	case CHART_CLICK:
+	    return chartClickEventHandler == null || chartClickEventHandler.onClick(new ChartClickEvent(nativeEvent));
+	case CHART_LOAD:
+	    return chartLoadEventHandler == null || chartLoadEventHandler.onLoad(new ChartLoadEvent(nativeEvent, chart));
+	case CHART_REDRAW:
+	    return chartRedrawEventHandler == null || chartRedrawEventHandler.onRedraw(new ChartRedrawEvent(nativeEvent, chart));
+	case CHART_SELECTION:
+	    return chartSelectionEventHandler == null || chartSelectionEventHandler.onSelection(new ChartSelectionEvent(nativeEvent));
+	default:
+	    return true;
 	}
-	return true;
     }
 
     @SuppressWarnings({ "UnusedDeclaration" })
-    private boolean seriesEventCallback(JavaScriptObject nativeSeries, JavaScriptObject nativeEvent, String eventType) {
-	if ("click".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesClickEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesClickEventHandler().onClick(new SeriesClickEvent(nativeEvent, nativeSeries));
-	} else if ("checkboxClick".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesCheckboxClickEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesCheckboxClickEventHandler().onClick(new SeriesCheckboxClickEvent(nativeEvent, nativeSeries));
-	} else if ("hide".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesHideEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesHideEventHandler().onHide(new SeriesHideEvent(nativeEvent, nativeSeries));
-	} else if ("legendItemClick".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesLegendItemClickEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesLegendItemClickEventHandler().onClick(new SeriesLegendItemClickEvent(nativeEvent, nativeSeries));
-	} else if ("mouseOver".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesMouseOverEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesMouseOverEventHandler().onMouseOver(new SeriesMouseOverEvent(nativeEvent, nativeSeries));
-	} else if ("mouseOut".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesMouseOutEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesMouseOutEventHandler().onMouseOut(new SeriesMouseOutEvent(nativeEvent, nativeSeries));
-	} else if ("show".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getSeriesShowEventHandler() != null) {
-	    return seriesPlotOptions.getSeriesShowEventHandler().onShow(new SeriesShowEvent(nativeEvent, nativeSeries));
+    private boolean seriesEventCallback(JavaScriptObject nativeSeries, JavaScriptObject nativeEvent, int eventCode) {
+	if (seriesPlotOptions == null) {
+	    return true;
+	}
+	switch (eventCode) {
+	case SERIES_CLICK:
+	    return seriesPlotOptions.getSeriesClickEventHandler() == null
+		    || seriesPlotOptions.getSeriesClickEventHandler().onClick(new SeriesClickEvent(nativeEvent, nativeSeries));
+	case SERIES_DBLCLICK:
+	    return seriesPlotOptions.getSeriesDblClickEventHandler() == null
+		    || seriesPlotOptions.getSeriesDblClickEventHandler().onDblClick(new SeriesDblClickEvent(nativeEvent, nativeSeries));
+	case SERIES_CHECKBOX_CLICK:
+	    return seriesPlotOptions.getSeriesCheckboxClickEventHandler() == null
+		    || seriesPlotOptions.getSeriesCheckboxClickEventHandler().onClick(new SeriesCheckboxClickEvent(nativeEvent, nativeSeries));
+	case SERIES_HIDE:
+	    return seriesPlotOptions.getSeriesHideEventHandler() == null
+		    || seriesPlotOptions.getSeriesHideEventHandler().onHide(new SeriesHideEvent(nativeEvent, nativeSeries));
+	case SERIES_LEGEND_ITEM_CLICK:
+	    return seriesPlotOptions.getSeriesLegendItemClickEventHandler() == null
+		    || seriesPlotOptions.getSeriesLegendItemClickEventHandler().onClick(new SeriesLegendItemClickEvent(nativeEvent, nativeSeries));
+	case SERIES_MOUSE_OVER:
+	    if (seriesPlotOptions.getSeriesMouseOverEventHandler() == null) {
+		return true;
+	    }
+	    if (seriesMouseOverEvent == null) {
+		seriesMouseOverEvent = new SeriesMouseOverEvent(nativeEvent, nativeSeries);
+	    } else {
+		nativeRetargetSeriesEvent(seriesMouseOverEvent, nativeEvent, nativeSeries);
+	    }
+	    return seriesPlotOptions.getSeriesMouseOverEventHandler().onMouseOver(seriesMouseOverEvent);
+	case SERIES_MOUSE_OUT:
+	    if (seriesPlotOptions.getSeriesMouseOutEventHandler() == null) {
+		return true;
+	    }
+	    if (seriesMouseOutEvent == null) {
+		seriesMouseOutEvent = new SeriesMouseOutEvent(nativeEvent, nativeSeries);
+	    } else {
+		nativeRetargetSeriesEvent(seriesMouseOutEvent, nativeEvent, nativeSeries);
+	    }
+	    return seriesPlotOptions.getSeriesMouseOutEventHandler().onMouseOut(seriesMouseOutEvent);
+	case SERIES_SHOW:
+	    return seriesPlotOptions.getSeriesShowEventHandler() == null
+		    || seriesPlotOptions.getSeriesShowEventHandler().onShow(new SeriesShowEvent(nativeEvent, nativeSeries));
+	default:
+	    return true;
 	}
-	return true;
     }
 
     @SuppressWarnings({ "UnusedDeclaration" })
-    private boolean pointEventCallback(JavaScriptObject nativePoint, JavaScriptObject nativeEvent, String eventType) {
-	if ("click".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointClickEventHandler() != null) {
-	    return seriesPlotOptions.getPointClickEventHandler().onClick(new PointClickEvent(nativeEvent, nativePoint));
-	} else if ("mouseOver".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointMouseOverEventHandler() != null) {
-	    return seriesPlotOptions.getPointMouseOverEventHandler().onMouseOver(new PointMouseOverEvent(nativeEvent, nativePoint));
-	} else if ("mouseOut".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointMouseOutEventHandler() != null) {
-	    return seriesPlotOptions.getPointMouseOutEventHandler().onMouseOut(new PointMouseOutEvent(nativeEvent, nativePoint));
-	} else if ("remove".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointRemoveEventHandler() != null) {
-	    return seriesPlotOptions.getPointRemoveEventHandler().onRemove(new PointRemoveEvent(nativeEvent, nativePoint));
-	} else if ("select".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointSelectEventHandler() != null) {
-	    return seriesPlotOptions.getPointSelectEventHandler().onSelect(new PointSelectEvent(nativeEvent, nativePoint));
-	} else if ("unselect".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointUnselectEventHandler() != null) {
-	    return seriesPlotOptions.getPointUnselectEventHandler().onUnselect(new PointUnselectEvent(nativeEvent, nativePoint));
-	} else if ("update".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointUpdateEventHandler() != null) {
-	    return seriesPlotOptions.getPointUpdateEventHandler().onUpdate(new PointUpdateEvent(nativeEvent, nativePoint));
-	} else if ("legendItemClick".equals(eventType) && piePlotOptions != null && piePlotOptions.getPointLegendItemClickEventHandler() != null) {
-	    return piePlotOptions.getPointLegendItemClickEventHandler().onClick(new PointLegendItemClickEvent(nativeEvent, nativePoint));
-	} else if ("drag".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointDragEventHandler() != null) {
-	    return seriesPlotOptions.getPointDragEventHandler().onDrag(new PointDragEvent(nativeEvent, nativePoint));
-	} else if ("drop".equals(eventType) && seriesPlotOptions != null && seriesPlotOptions.getPointDropEventHandler() != null) {
-	    return seriesPlotOptions.getPointDropEventHandler().onDrop(new PointDropEvent(nativeEvent, nativePoint));
+    private boolean pointEventCallback(JavaScriptObject nativePoint, JavaScriptObject nativeEvent, int eventCode) {
+	if (eventCode == POINT_LEGEND_ITEM_CLICK) {
+	    return piePlotOptions == null || piePlotOptions.getPointLegendItemClickEventHandler() == null
+		    || piePlotOptions.getPointLegendItemClickEventHandler().onClick(new PointLegendItemClickEvent(nativeEvent, nativePoint));
 	}
-	return true;
+	if (eventCode == POINT_DROP) {
+	    return pointDropCallback(nativePoint, nativeEvent);
+	}
+	if (seriesPlotOptions == null) {
+	    return true;
+	}
+	switch (eventCode) {
+	case POINT_CLICK:
+	    return seriesPlotOptions.getPointClickEventHandler() == null
+		    || seriesPlotOptions.getPointClickEventHandler().onClick(new PointClickEvent(nativeEvent, nativePoint));
+	case POINT_MOUSE_OVER:
+	case POINT_MOUSE_OUT:
+	case POINT_DRAG:
+	    if (seriesPlotOptions.isCoalescePointEvents()) {
+		queueCoalescedPointEvent(eventCode, nativeEvent, nativePoint);
+		return true;
+	    }
+	    return dispatchCoalescablePointEvent(eventCode, nativeEvent, nativePoint, 0);
+	case POINT_REMOVE:
+	    return seriesPlotOptions.getPointRemoveEventHandler() == null
+		    || seriesPlotOptions.getPointRemoveEventHandler().onRemove(new PointRemoveEvent(nativeEvent, nativePoint));
+	case POINT_SELECT:
+	    return seriesPlotOptions.getPointSelectEventHandler() == null
+		    || seriesPlotOptions.getPointSelectEventHandler().onSelect(new PointSelectEvent(nativeEvent, nativePoint));
+	case POINT_UNSELECT:
+	    return seriesPlotOptions.getPointUnselectEventHandler() == null
+		    || seriesPlotOptions.getPointUnselectEventHandler().onUnselect(new PointUnselectEvent(nativeEvent, nativePoint));
+	case POINT_UPDATE:
+	    return seriesPlotOptions.getPointUpdateEventHandler() == null
+		    || seriesPlotOptions.getPointUpdateEventHandler().onUpdate(new PointUpdateEvent(nativeEvent, nativePoint));
+	default:
+	    return true;
+	}
+    }
+
+    private boolean pointDropCallback(JavaScriptObject nativePoint, JavaScriptObject nativeEvent) {
+
+	// Drops are never coalesced, and anything still waiting for the next frame (most likely the last
+	// drag event) is delivered first so that handlers always see the drag end with the drop
+	flushCoalescedPointEvents();
+	if (isPersistent()) {
+	    final Series series = getSeries(nativeGetPointSeriesId(nativePoint));
+	    if (series != null) {
+		series.syncDroppedPoint(nativePoint);
+	    }
+	}
+	return seriesPlotOptions == null || seriesPlotOptions.getPointDropEventHandler() == null
+		|| seriesPlotOptions.getPointDropEventHandler().onDrop(new PointDropEvent(nativeEvent, nativePoint));
     }
 
+    private boolean dispatchCoalescablePointEvent(int eventCode, JavaScriptObject nativeEvent, JavaScriptObject nativePoint, int skippedEventCount) {
+	if (seriesPlotOptions == null) {
+	    return true;
+	}
+	switch (eventCode) {
+	case POINT_MOUSE_OVER:
+	    if (seriesPlotOptions.getPointMouseOverEventHandler() == null) {
+		return true;
+	    }
+	    if (pointMouseOverEvent == null) {
+		pointMouseOverEvent = new PointMouseOverEvent(nativeEvent, nativePoint);
+	    }
+	    nativeRetargetPointEvent(pointMouseOverEvent, nativeEvent, nativePoint, skippedEventCount);
+	    return seriesPlotOptions.getPointMouseOverEventHandler().onMouseOver(pointMouseOverEvent);
+	case POINT_MOUSE_OUT:
+	    if (seriesPlotOptions.getPointMouseOutEventHandler() == null) {
+		return true;
+	    }
+	    if (pointMouseOutEvent == null) {
+		pointMouseOutEvent = new PointMouseOutEvent(nativeEvent, nativePoint);
+	    }
+	    nativeRetargetPointEvent(pointMouseOutEvent, nativeEvent, nativePoint, skippedEventCount);
+	    return seriesPlotOptions.getPointMouseOutEventHandler().onMouseOut(pointMouseOutEvent);
+	case POINT_DRAG:
+	    if (seriesPlotOptions.getPointDragEventHandler() == null) {
+		return true;
+	    }
+	    if (pointDragEvent == null) {
+		pointDragEvent = new PointDragEvent(nativeEvent, nativePoint);
+	    }
+	    nativeRetargetPointEvent(pointDragEvent, nativeEvent, nativePoint, skippedEventCount);
+	    return seriesPlotOptions.getPointDragEventHandler().onDrag(pointDragEvent);
+	default:
+	    return true;
+	}
+    }
+
+    // The latest mouse over, mouse out and drag event waiting for the next animation frame (indexed by event code),
+    // along with how many events of the same type it replaced, and the order in which they arrived
+    private final JavaScriptObject[] coalescedNativeEvents = new JavaScriptObject[POINT_MOUSE_OUT + 1];
+    private final JavaScriptObject[] coalescedNativePoints = new JavaScriptObject[POINT_MOUSE_OUT + 1];
+    private final int[] coalescedSkippedCounts = new int[POINT_MOUSE_OUT + 1];
+    private final int[] coalescedSequence = new int[POINT_MOUSE_OUT + 1];
+    private int coalescedEventCount;
+    private boolean coalescedFlushScheduled;
+
+    private void queueCoalescedPointEvent(int eventCode, JavaScriptObject nativeEvent, JavaScriptObject nativePoint) {
+	if (coalescedNativeEvents[eventCode] != null) {
+	    coalescedSkippedCounts[eventCode]++;
+	}
+	coalescedNativeEvents[eventCode] = nativeEvent;
+	coalescedNativePoints[eventCode] = nativePoint;
+	coalescedSequence[eventCode] = ++coalescedEventCount;
+	if (!coalescedFlushScheduled) {
+	    coalescedFlushScheduled = true;
+	    AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+		public void execute(double timestamp) {
+		    coalescedFlushScheduled = false;
+		    flushCoalescedPointEvents();
+		}
+	    });
+	}
+    }
+
+    // Delivers the pending events in the order of their latest occurrence (e.g. so that a mouse out of one
+    // point followed by a mouse over of the next still arrive in that order)
+    private void flushCoalescedPointEvents() {
+	while (true) {
+	    int next = -1;
+	    for (int code = 0; code < coalescedNativeEvents.length; code++) {
+		if (coalescedNativeEvents[code] != null && (next < 0 || coalescedSequence[code] < coalescedSequence[next])) {
+		    next = code;
+		}
+	    }
+	    if (next < 0) {
+		coalescedEventCount = 0;
+		return;
+	    }
+	    final JavaScriptObject nativeEvent = coalescedNativeEvents[next];
+	    final JavaScriptObject nativePoint = coalescedNativePoints[next];
+	    final int skippedEventCount = coalescedSkippedCounts[next];
+	    coalescedNativeEvents[next] = null;
+	    coalescedNativePoints[next] = null;
+	    coalescedSkippedCounts[next] = 0;
+	    dispatchCoalescablePointEvent(next, nativeEvent, nativePoint, skippedEventCount);
+	}
+    }
+
+    private static native String nativeGetPointSeriesId(JavaScriptObject nativePoint) /*-{
+	return nativePoint.series && nativePoint.series.options.id != null ? String(nativePoint.series.options.id) : null;
+    }-*/;
+
+    // JSNI isn't bound by the visibility of the event fields, which lets the wrappers be reused without
+    // having to open up a public setter on the event classes
+    private static native void nativeRetargetPointEvent(PointEvent event, JavaScriptObject nativeEvent, JavaScriptObject nativePoint,
+	    int skippedEventCount) /*-{
+	event.@org.moxieapps.gwt.highcharts.client.events.MouseEvent::event = nativeEvent;
+	event.@org.moxieapps.gwt.highcharts.client.events.PointEvent::point = nativePoint;
+	event.@org.moxieapps.gwt.highcharts.client.events.PointEvent::skippedEventCount = skippedEventCount;
+    }-*/;
+
+    private static native void nativeRetargetSeriesEvent(SeriesEvent event, JavaScriptObject nativeEvent, JavaScriptObject nativeSeries) /*-{
+	event.@org.moxieapps.gwt.highcharts.client.events.MouseEvent::event = nativeEvent;
+	event.@org.moxieapps.gwt.highcharts.client.events.SeriesEvent::series = nativeSeries;
+    }-*/;
+
     @SuppressWarnings({ "UnusedDeclaration" })
     private boolean axisEventCallback(String axisId, JavaScriptObject nativeEvent, String eventType) {
 	Axis<?> axis = getAxis(axisId);
-	// noinspection SimplifiableIfStatement
-	if ("setExtremes".equals(eventType) && axis != null && axis.getAxisSetExtremesEventHandler() != null) {
-	    return axis.getAxisSetExtremesEventHandler().onSetExtremes(new AxisSetExtremesEvent(nativeEvent, axis));
+	if ("setExtremes".equals(eventType) && axis != null) {
+	    if (axis.getAxisSetExtremesEventHandler() != null && !axis.getAxisSetExtremesEventHandler().onSetExtremes(new AxisSetExtremesEvent(nativeEvent, axis))) {
+		return false;
+	    }
+	    if (axis instanceof XAxis) {
+		resampleSeries(xAxes.indexOf(axis), nativeGetEventExtreme(nativeEvent, "min"), nativeGetEventExtreme(nativeEvent, "max"));
+	    }
 	}
 
 	return true;
     }
 
+    private boolean hasDownsampledSeries(int xAxisIndex) {
+	for (Series series : seriesList) {
+	    if (series.getDownsampling() != null && series.getXAxisIndex() == xAxisIndex) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    // Pick the points shown by any downsampled series from the range the X axis is about to display
+    private void resampleSeries(int xAxisIndex, double min, double max) {
+	for (Series series : seriesList) {
+	    if (series.hasFullResolutionData() && series.getXAxisIndex() == xAxisIndex) {
+		series.resample(min, max);
+	    }
+	}
+    }
+
+    private static native double nativeGetEventExtreme(JavaScriptObject event, String name) /*-{
+	var value = event[name];
+	return typeof value === 'number' ? value : NaN;
+    }-*/;
+
     @SuppressWarnings({ "UnusedDeclaration" })
     private boolean axisTitleEventCallback(String axisId, JavaScriptObject nativeEvent, String eventType) {
 	Axis<?> axis = getAxis(axisId);
@@ -3361,15 +4684,18 @@ public abstract class BaseChart<T> extends Widget {
     @SuppressWarnings({ "UnusedDeclaration" })
     private boolean plotBandsEventCallback(JavaScriptObject nativeEvent, String eventType, String axisId, String plotBandId) {
 	final Axis<?> axis = getAxis(axisId);
-	final PlotBand plotBand = axis.getPlotBand(plotBandId);
+	final PlotBand plotBand = axis != null ? axis.getPlotBand(plotBandId) : null;
+	if (plotBand == null) {
+	    return true;
+	}
 
-	if ("click".equals(eventType) && axis != null && plotBand.getClickEventHandler() != null) {
+	if ("click".equals(eventType) && plotBand.getClickEventHandler() != null) {
 	    return plotBand.getClickEventHandler().onClick(new PlotBandClickEvent(nativeEvent));
 	}
-	if ("dblclick".equals(eventType) && axis != null && plotBand.getDblClickEventHandler() != null) {
+	if ("dblclick".equals(eventType) && plotBand.getDblClickEventHandler() != null) {
 	    return plotBand.getDblClickEventHandler().onDblClick(new PlotBandDblClickEvent(nativeEvent));
 	}
-	if ("contextmenu".equals(eventType) && axis != null && plotBand.getRightClickEventHandler() != null) {
+	if ("contextmenu".equals(eventType) && plotBand.getRightClickEventHandler() != null) {
 	    return plotBand.getRightClickEventHandler().onRightClick(new PlotBandRightClickEvent(nativeEvent));
 	}
 	return true;
@@ -3378,14 +4704,42 @@ public abstract class BaseChart<T> extends Widget {
     @SuppressWarnings({ "UnusedDeclaration" })
     private boolean plotLinesEventCallback(JavaScriptObject nativeEvent, String eventType, String axisId, String plotLineId) {
 	final Axis<?> axis = getAxis(axisId);
-	final PlotLine plotLine = axis.getPlotLine(plotLineId);
+	final PlotLine plotLine = axis != null ? axis.getPlotLine(plotLineId) : null;
 
-	if ("click".equals(eventType) && axis != null && plotLine.getClickEventHandler() != null) {
+	if ("click".equals(eventType) && plotLine != null && plotLine.getClickEventHandler() != null) {
 	    return plotLine.getClickEventHandler().onClick(new PlotLineClickEvent(nativeEvent));
 	}
 	return true;
     }
 
+    // Called before a memoized label is looked up in the formatter cache (with the kind of label, as the
+    // first letter of its cache key, and the index of its axis), so that the cache is let go as soon as
+    // the formatter of the label is found to be replaced since its output was cached
+    @SuppressWarnings({ "UnusedDeclaration" })
+    private void checkCachedFormatter(String kind, int axisIndex) {
+	final Object formatter = getCachedFormatter(kind, axisIndex);
+	final String key = kind + axisIndex;
+	if (cachedFormatters.containsKey(key) && cachedFormatters.get(key) != formatter) {
+	    clearFormatterCache();
+	}
+	cachedFormatters.put(key, formatter);
+    }
+
+    private Object getCachedFormatter(String kind, int axisIndex) {
+	if ("t".equals(kind)) {
+	    return toolTip != null ? toolTip.getToolTipFormatter() : null;
+	} else if ("l".equals(kind)) {
+	    return legend != null ? legend.getLabelsFormatter() : null;
+	} else if ("x".equals(kind)) {
+	    return xAxes != null && xAxes.size() > axisIndex && xAxes.get(axisIndex).getLabels() != null ? xAxes.get(axisIndex).getLabels().getFormatter() : null;
+	} else if ("y".equals(kind)) {
+	    return yAxes != null && yAxes.size() > axisIndex && yAxes.get(axisIndex).getLabels() != null ? yAxes.get(axisIndex).getLabels().getFormatter() : null;
+	} else if ("k".equals(kind)) {
+	    return yAxes != null && yAxes.size() > axisIndex && yAxes.get(axisIndex).getStackLabels() != null ? yAxes.get(axisIndex).getStackLabels().getFormatter() : null;
+	}
+	return null;
+    }
+
     @SuppressWarnings({ "UnusedDeclaration" })
     private String toolTipFormatterCallback(JavaScriptObject nativeData) {
 	if (toolTip == null || toolTip.getToolTipFormatter() == null) {
@@ -3429,48 +4783,7 @@ public abstract class BaseChart<T> extends Widget {
 
     @SuppressWarnings({ "UnusedDeclaration" })
     private String plotOptionsLabelsFormatterCallback(JavaScriptObject nativeData, String type) {
-	PlotOptions plotOptions = null;
-	if ("area".equals(type))
-	    plotOptions = areaPlotOptions;
-	if ("arearange".equals(type))
-	    plotOptions = areaRangePlotOptions;
-	if ("areaspline".equals(type))
-	    plotOptions = areaSplinePlotOptions;
-	if ("areasplinerange".equals(type))
-	    plotOptions = areaSplineRangePlotOptions;
-	if ("bar".equals(type))
-	    plotOptions = barPlotOptions;
-	if ("box".equals(type))
-	    plotOptions = boxPlotOptions;
-	if ("bubble".equals(type))
-	    plotOptions = bubblePlotOptions;
-	if ("candlestick".equals(type))
-	    plotOptions = candlestickPlotOptions;
-	if ("column".equals(type))
-	    plotOptions = columnPlotOptions;
-	if ("columnrange".equals(type))
-	    plotOptions = columnRangePlotOptions;
-	if ("errorbar".equals(type))
-	    plotOptions = errorBarPlotOptions;
-	if ("funnel".equals(type))
-	    plotOptions = funnelPlotOptions;
-	if ("gauge".equals(type))
-	    plotOptions = gaugePlotOptions;
-	if ("line".equals(type))
-	    plotOptions = linePlotOptions;
-	if ("ohlc".equals(type))
-	    plotOptions = ohlcPlotOptions;
-	if ("pie".equals(type))
-	    plotOptions = piePlotOptions;
-	if ("scatter".equals(type))
-	    plotOptions = scatterPlotOptions;
-	if ("series".equals(type))
-	    plotOptions = seriesPlotOptions;
-	if ("spline".equals(type))
-	    plotOptions = splinePlotOptions;
-	if ("waterfall".equals(type))
-	    plotOptions = waterfallPlotOptions;
-
+	final PlotOptions<?> plotOptions = plotOptionsByType.get(type);
 	if (plotOptions == null || plotOptions.getDataLabels() == null || plotOptions.getDataLabels().getFormatter() == null) {
 	    return null;
 	}
@@ -3487,6 +4800,57 @@ public abstract class BaseChart<T> extends Widget {
 	return seriesList.get(seriesIndex).getPlotOptions().getDataLabels().getFormatter().format(new DataLabelsData(nativeData));
     }
 
+    // Called once for all of the visible points of a series (with either the type of the plot options or the index
+    // of the series that the batch formatter was applied to), after which the labels are served natively
+    @SuppressWarnings({ "UnusedDeclaration" })
+    private JsArrayString batchDataLabelsFormatterCallback(JavaScriptObject nativeSeries, String type, int seriesIndex) {
+	final PlotOptions<?> plotOptions;
+	if (type != null) {
+	    plotOptions = plotOptionsByType.get(type);
+	} else {
+	    plotOptions = seriesIndex < seriesList.size() ? seriesList.get(seriesIndex).getPlotOptions() : null;
+	}
+	if (plotOptions == null || plotOptions.getDataLabels() == null || plotOptions.getDataLabels().getBatchFormatter() == null) {
+	    return null;
+	}
+	final String[] labels = plotOptions.getDataLabels().getBatchFormatter().format(new BatchDataLabelsData(
+		nativeGetSeriesId(nativeSeries), nativeGetSeriesName(nativeSeries), readVisiblePointValues(nativeSeries, "x"),
+		readVisiblePointValues(nativeSeries, "y"), readVisiblePointValues(nativeSeries, "percentage")));
+	final JsArrayString nativeLabels = JavaScriptObject.createArray().cast();
+	if (labels != null) {
+	    for (String label : labels) {
+		nativeLabels.push(label);
+	    }
+	}
+	return nativeLabels;
+    }
+
+    private static double[] readVisiblePointValues(JavaScriptObject nativeSeries, String field) {
+	final JsArrayNumber nativeValues = nativeReadVisiblePointValues(nativeSeries, field);
+	final double[] values = new double[nativeValues.length()];
+	for (int i = 0; i < values.length; i++) {
+	    values[i] = nativeValues.get(i);
+	}
+	return values;
+    }
+
+    private static native JsArrayNumber nativeReadVisiblePointValues(JavaScriptObject series, String field) /*-{
+	var points = series.points || [], values = [];
+	for (var i = 0; i < points.length; i++) {
+	    var value = points[i] ? points[i][field] : null;
+	    values.push(typeof value === 'number' ? value : NaN);
+	}
+	return values;
+    }-*/;
+
+    private static native String nativeGetSeriesId(JavaScriptObject series) /*-{
+	return series.options.id != null ? String(series.options.id) : null;
+    }-*/;
+
+    private static native String nativeGetSeriesName(JavaScriptObject series) /*-{
+	return series.name != null ? String(series.name) : null;
+    }-*/;
+
     private static native void nativeRedraw(JavaScriptObject chart) /*-{
 								    chart.redraw();
 								    }-*/;
@@ -3495,6 +4859,18 @@ public abstract class BaseChart<T> extends Widget {
 								     chart.destroy();
 								     }-*/;
 
+    private static native void nativeReflow(JavaScriptObject chart) /*-{
+	chart.reflow();
+    }-*/;
+
+    private static native int nativeGetChartWidth(JavaScriptObject chart) /*-{
+	return chart.chartWidth;
+    }-*/;
+
+    private static native int nativeGetChartHeight(JavaScriptObject chart) /*-{
+	return chart.chartHeight;
+    }-*/;
+
     private static native void nativeSetSize(JavaScriptObject chart, int width, int height, boolean animated) /*-{
 													      chart.setSize(width, height, animated);
 													      }-*/;
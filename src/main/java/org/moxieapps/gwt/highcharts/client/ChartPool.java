@@ -0,0 +1,206 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.moxieapps.gwt.highcharts.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Holds on to the native Highcharts instances of detached charts, so that a chart with the same configuration
+ * which is rendered later on can take one of them over instead of constructing a new one.  This is intended for
+ * lists and grids that recycle many small, identically configured charts (such as sparklines within the rows of
+ * a virtualized list), where building the SVG renderer, axes and legend of a chart costs far more than handing
+ * new data to its series.  Charts opt in via the {@link BaseChart#setChartPool(ChartPool)} method, after which
+ * detaching the chart hands its native instance back to the pool (rather than destroying it), and rendering the
+ * chart first looks for an idle instance whose configuration matches.  An adopted instance is moved into the
+ * new chart's element, its series are given the new data via their "setData()" method, and it's then reflowed
+ * to the size of its new container.  A chart that {@link BaseChart#hibernate() hibernates} (e.g. because it was
+ * set to do so via {@link BaseChart#setHibernateWhenOffscreen(int)} and scrolled out of view) hands its native
+ * instance back to the pool in the same way.  General usage is as follows:
+ * <code><pre>
+ * Chart sparkline = new Chart()
+ *     .setChartPool(ChartPool.get())
+ *     .setType(Series.Type.LINE)
+ *     .setWidth(120)
+ *     .setHeight(30);
+ * </pre></code>
+ * Two charts match when their options are the same once the data and the ids of their series and axes are
+ * left out, and when the same kinds of event handlers and formatters are set on them.  Note that the load
+ * event of a chart isn't fired when it adopts a pooled instance, and that other state which only lives in
+ * Highcharts (such as the selected points) carries over from the chart the instance came from.
+ *
+ * @since 1.7.0
+ */
+public class ChartPool {
+
+    private static ChartPool sharedInstance;
+
+    /**
+     * Returns the pool shared by the whole application, which is normally the one to use so that charts can
+     * be recycled between all of the lists and grids of the application.
+     *
+     * @return The shared ChartPool instance.
+     */
+    public static ChartPool get() {
+        if (sharedInstance == null) {
+            sharedInstance = new ChartPool();
+        }
+        return sharedInstance;
+    }
+
+    // The idle native chart instances by the fingerprint of their configuration
+    private final HashMap<String, ArrayList<JavaScriptObject>> idleCharts = new HashMap<String, ArrayList<JavaScriptObject>>();
+
+    private int maxIdleCharts = 10;
+    private int idleCount;
+    private int reuseCount;
+    private int missCount;
+
+    /**
+     * Create a pool of its own, separate from the shared one.  Normally the shared instance returned by
+     * {@link #get()} should be used instead.
+     */
+    public ChartPool() {
+    }
+
+    /**
+     * Sets how many idle native charts the pool holds on to for each distinct configuration.  Charts that are
+     * detached once that many are already idle are destroyed as usual.  Defaults to 10.
+     *
+     * @param maxIdleCharts The maximum number of idle charts to hold on to per configuration.
+     * @return A reference to this {@link ChartPool} instance for convenient method chaining.
+     */
+    public ChartPool setMaxIdleCharts(int maxIdleCharts) {
+        this.maxIdleCharts = Math.max(maxIdleCharts, 0);
+        return this;
+    }
+
+    /**
+     * Returns how many idle native charts the pool holds on to for each distinct configuration, as set via
+     * {@link #setMaxIdleCharts(int)}.
+     *
+     * @return The maximum number of idle charts held on to per configuration.
+     */
+    public int getMaxIdleCharts() {
+        return maxIdleCharts;
+    }
+
+    /**
+     * Returns the number of native charts that are currently waiting in the pool to be adopted.
+     *
+     * @return The number of idle charts across all configurations.
+     */
+    public int getIdleCount() {
+        return idleCount;
+    }
+
+    /**
+     * Returns the number of times a chart has been rendered by adopting a pooled native chart, since the pool was
+     * created (or its statistics were last reset via {@link #resetStatistics()}).
+     *
+     * @return The number of charts that were rendered from the pool.
+     */
+    public int getReuseCount() {
+        return reuseCount;
+    }
+
+    /**
+     * Returns the number of times a chart had to be constructed from scratch because the pool didn't have an idle
+     * native chart of the same configuration, since the pool was created (or its statistics were last reset via
+     * {@link #resetStatistics()}).
+     *
+     * @return The number of charts that couldn't be rendered from the pool.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Reset the statistics reported by {@link #getReuseCount()} and {@link #getMissCount()} back to zero.
+     *
+     * @return A reference to this {@link ChartPool} instance for convenient method chaining.
+     */
+    public ChartPool resetStatistics() {
+        reuseCount = 0;
+        missCount = 0;
+        return this;
+    }
+
+    /**
+     * Destroy all of the idle native charts held by the pool, e.g. once the list or grid they were recycled
+     * within is gone.
+     *
+     * @return A reference to this {@link ChartPool} instance for convenient method chaining.
+     */
+    public ChartPool clear() {
+        for (ArrayList<JavaScriptObject> charts : idleCharts.values()) {
+            for (JavaScriptObject chart : charts) {
+                nativeDestroy(chart);
+            }
+        }
+        idleCharts.clear();
+        idleCount = 0;
+        return this;
+    }
+
+    // Purposefully restricted to package scope, returns an idle native chart of the given configuration (which
+    // is then no longer part of the pool), or null if there isn't one
+    JavaScriptObject acquire(String fingerprint) {
+        final ArrayList<JavaScriptObject> charts = idleCharts.get(fingerprint);
+        if (charts == null || charts.isEmpty()) {
+            missCount++;
+            return null;
+        }
+        reuseCount++;
+        idleCount--;
+        return charts.remove(charts.size() - 1);
+    }
+
+    // Purposefully restricted to package scope, takes the native chart of a chart that's being detached out of
+    // the DOM and holds on to it, returning false (in which case the chart should be destroyed) if the pool is full
+    boolean release(String fingerprint, JavaScriptObject chart) {
+        ArrayList<JavaScriptObject> charts = idleCharts.get(fingerprint);
+        if (charts == null) {
+            charts = new ArrayList<JavaScriptObject>();
+            idleCharts.put(fingerprint, charts);
+        }
+        if (charts.size() >= maxIdleCharts) {
+            return false;
+        }
+        nativeRelease(chart);
+        charts.add(chart);
+        idleCount++;
+        return true;
+    }
+
+    // Lets go of the chart's owner (so the detached widget can be garbage collected) and takes its container out of the DOM
+    private static native void nativeRelease(JavaScriptObject chart) /*-{
+        chart.gwtSetOwner(null);
+        chart.gwtChart = null;
+        if (chart.container.parentNode) {
+            chart.container.parentNode.removeChild(chart.container);
+        }
+    }-*/;
+
+    private static native void nativeDestroy(JavaScriptObject chart) /*-{
+        chart.destroy();
+    }-*/;
+
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.moxieapps.gwt.highcharts.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayMixed;
+
+/**
+ * Records a set of changes to the series and axes of a rendered chart, and then applies all of them to the
+ * chart at once (followed by a single redraw) when {@link #commit()} is called.  Each change has the same effect
+ * as the corresponding method of the {@link Series} or {@link Axis} classes, but instead of each of those methods
+ * looking up the native series or axis and updating it on its own, the transaction collects the changes in a compact
+ * native buffer and replays them in one pass.  This is considerably cheaper when refreshing many series at once,
+ * e.g. for a grid that updates dozens of series, toggles the visibility of others, and moves a few plot bands.
+ * General usage is as follows:
+ * <code><pre>
+ * chart.createTransaction()
+ *     .setPoints(priceSeries, newPrices)
+ *     .setVisible(volumeSeries, false)
+ *     .removePlotBand(xAxis, oldBand)
+ *     .addPlotBands(xAxis, newBand)
+ *     .setExtremes(xAxis, min, max)
+ *     .commit();
+ * </pre></code>
+ * Note that the Java side of each change (e.g. the points retained by a persistent chart) is applied as soon as
+ * the change is recorded, while the chart itself is only updated once the transaction is committed.  If the chart
+ * hasn't been rendered yet, each change is simply applied right away.
+ *
+ * @see BaseChart#createTransaction()
+ * @since 1.7.0
+ */
+public class ChartTransaction {
+
+    // Each command takes up four slots of the buffer: the operation, the id of the series or axis that it applies
+    // to, and up to two arguments.  (The operation codes need to match the ones used within nativeReplay().)
+    private static final int SET_DATA = 1;
+    private static final int SET_VISIBLE = 2;
+    private static final int SET_EXTREMES = 3;
+    private static final int ADD_PLOT_BAND = 4;
+    private static final int REMOVE_PLOT_BAND = 5;
+    private static final int ADD_PLOT_LINE = 6;
+    private static final int REMOVE_PLOT_LINE = 7;
+
+    private final BaseChart<?> chart;
+    private JsArrayMixed commands;
+
+    // Purposefully restricted to package scope, use BaseChart.createTransaction() instead
+    ChartTransaction(BaseChart<?> chart) {
+        this.chart = chart;
+    }
+
+    /**
+     * Record a new set of data for the series, like {@link Series#setPoints(Point[], boolean)}.
+     *
+     * @param series The series to apply the points to.
+     * @param points The array of points to set on the data series (replacing any data already in place)
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction setPoints(Series series, Point[] points) {
+        final JavaScriptObject data = series.storePoints(points);
+        if (data != null) {
+            record(SET_DATA, series.getId(), data);
+        }
+        return this;
+    }
+
+    /**
+     * Record a new set of data (Y values only) for the series, like {@link Series#setPoints(double[], boolean)}.
+     *
+     * @param series  The series to apply the points to.
+     * @param yValues The array of Y values to set on the data series (replacing any data already in place)
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction setPoints(Series series, double[] yValues) {
+        return setPointColumns(series, yValues);
+    }
+
+    /**
+     * Record a new set of data for the series from parallel primitive arrays of X and Y values, like
+     * {@link Series#setPoints(double[], double[], boolean)}.  Note that a series which has been set to
+     * downsample (via {@link Series#setDownsampling(Series.Downsampling)}) is updated right away instead,
+     * as the points it hands to the chart depend on the range the chart is currently showing.
+     *
+     * @param series  The series to apply the points to.
+     * @param xValues The array of X values to set on the data series
+     * @param yValues The array of Y values to set on the data series (must be the same length as the X values)
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction setPoints(Series series, double[] xValues, double[] yValues) {
+        if (series.getDownsampling() != null) {
+            series.setPoints(xValues, yValues, false);
+            return this;
+        }
+        return setPointColumns(series, xValues, yValues);
+    }
+
+    private ChartTransaction setPointColumns(Series series, double[]... columns) {
+        final JavaScriptObject data = series.storePointColumns(columns);
+        if (data != null) {
+            record(SET_DATA, series.getId(), data);
+        }
+        return this;
+    }
+
+    /**
+     * Record showing or hiding the series, like {@link Series#setVisible(boolean, boolean)}.
+     *
+     * @param series  The series to show or hide.
+     * @param visible Whether or not to show or hide the series.
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction setVisible(Series series, boolean visible) {
+        if (chart.isRendered()) {
+            record(SET_VISIBLE, series.getId(), visible);
+        }
+        return this;
+    }
+
+    /**
+     * Record new minimum and maximum values for the axis, like {@link Axis#setExtremes(Number, Number, boolean, boolean)}.
+     *
+     * @param axis The axis to update.
+     * @param min  The new minimum value.
+     * @param max  The new maximum value.
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction setExtremes(Axis<?> axis, Number min, Number max) {
+        if (!chart.isRendered()) {
+            axis.setExtremes(min, max, false, false);
+            return this;
+        }
+        record(SET_EXTREMES, axis.getId(), min.doubleValue(), max.doubleValue());
+        return this;
+    }
+
+    /**
+     * Record adding plot bands to the axis, like {@link Axis#addPlotBands(PlotBand...)}.
+     *
+     * @param axis      The axis to add the plot bands to.
+     * @param plotBands One or more PlotBand instances that represent the options of each band to render
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction addPlotBands(Axis<?> axis, PlotBand... plotBands) {
+        if (!chart.isRendered()) {
+            axis.addPlotBands(plotBands);
+            return this;
+        }
+        for (PlotBand plotBand : plotBands) {
+            axis.trackPlotBand(plotBand, true);
+            record(ADD_PLOT_BAND, axis.getId(), plotBand.getOptions().getJavaScriptObject());
+        }
+        return this;
+    }
+
+    /**
+     * Record removing a plot band from the axis, like {@link Axis#removePlotBand(PlotBand)}.
+     *
+     * @param axis     The axis to remove the plot band from.
+     * @param plotBand The PlotBand instance to remove from the chart.
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction removePlotBand(Axis<?> axis, PlotBand plotBand) {
+        if (!chart.isRendered()) {
+            axis.removePlotBand(plotBand);
+            return this;
+        }
+        axis.trackPlotBand(plotBand, false);
+        record(REMOVE_PLOT_BAND, axis.getId(), plotBand.getId());
+        return this;
+    }
+
+    /**
+     * Record adding plot lines to the axis, like {@link Axis#addPlotLines(PlotLine...)}.
+     *
+     * @param axis      The axis to add the plot lines to.
+     * @param plotLines One or more PlotLine instances that represent the options of each line to render
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction addPlotLines(Axis<?> axis, PlotLine... plotLines) {
+        if (!chart.isRendered()) {
+            axis.addPlotLines(plotLines);
+            return this;
+        }
+        for (PlotLine plotLine : plotLines) {
+            axis.trackPlotLine(plotLine, true);
+            record(ADD_PLOT_LINE, axis.getId(), plotLine.getOptions().getJavaScriptObject());
+        }
+        return this;
+    }
+
+    /**
+     * Record removing a plot line from the axis, like {@link Axis#removePlotLine(PlotLine)}.
+     *
+     * @param axis     The axis to remove the plot line from.
+     * @param plotLine The PlotLine instance to remove from the chart.
+     * @return A reference to this {@link ChartTransaction} instance for convenient method chaining.
+     */
+    public ChartTransaction removePlotLine(Axis<?> axis, PlotLine plotLine) {
+        if (!chart.isRendered()) {
+            axis.removePlotLine(plotLine);
+            return this;
+        }
+        axis.trackPlotLine(plotLine, false);
+        record(REMOVE_PLOT_LINE, axis.getId(), plotLine.getId());
+        return this;
+    }
+
+    /**
+     * Returns the number of changes that have been recorded since the transaction was created or last committed.
+     *
+     * @return The number of changes waiting to be applied to the chart.
+     */
+    public int getCommandCount() {
+        return commands != null ? commands.length() / 4 : 0;
+    }
+
+    /**
+     * Apply all of the recorded changes to the chart, and then redraw it once.
+     *
+     * @return A reference to this {@link ChartTransaction} instance, which can be used to record another set of changes.
+     */
+    public ChartTransaction commit() {
+        return commit(true);
+    }
+
+    /**
+     * Apply all of the recorded changes to the chart, and then optionally redraw it.  If redraw batching has
+     * been enabled on the chart (see {@link BaseChart#setRedrawBatching(BaseChart.RedrawBatching)}), the redraw
+     * is coalesced with any other redraws requested in the meantime.
+     *
+     * @param redraw Whether to redraw the chart once the changes are applied, or wait until the {@link BaseChart#redraw()} method is called.
+     * @return A reference to this {@link ChartTransaction} instance, which can be used to record another set of changes.
+     */
+    public ChartTransaction commit(boolean redraw) {
+        if (chart.isRendered()) {
+            if (commands != null) {
+                nativeReplay(chart.getNativeChart(), commands, chart.requestRedraw(redraw));
+            } else if (chart.requestRedraw(redraw)) {
+                // Nothing was recorded, but a downsampled series may still have been updated directly
+                chart.redraw();
+            }
+        }
+        commands = null;
+        return this;
+    }
+
+    private void record(int operation, String id, JavaScriptObject argument) {
+        start(operation, id).push(argument);
+        commands.push((JavaScriptObject) null);
+    }
+
+    private void record(int operation, String id, String argument) {
+        start(operation, id).push(argument);
+        commands.push((JavaScriptObject) null);
+    }
+
+    private void record(int operation, String id, boolean argument) {
+        start(operation, id).push(argument);
+        commands.push((JavaScriptObject) null);
+    }
+
+    private void record(int operation, String id, double first, double second) {
+        start(operation, id).push(first);
+        commands.push(second);
+    }
+
+    private JsArrayMixed start(int operation, String id) {
+        if (commands == null) {
+            commands = JavaScriptObject.createArray().cast();
+        }
+        commands.push(operation);
+        commands.push(id);
+        return commands;
+    }
+
+    private static native void nativeReplay(JavaScriptObject chart, JsArrayMixed commands, boolean redraw) /*-{
+        for (var i = 0, length = commands.length; i < length; i += 4) {
+            var target = chart.get(commands[i + 1]), a = commands[i + 2], b = commands[i + 3];
+            if (!target) {
+                continue;
+            }
+            switch (commands[i]) {
+                case 1: @org.moxieapps.gwt.highcharts.client.Series::nativeSetData(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Z)(target, a, false); break;
+                case 2: target.setVisible(a, false); break;
+                case 3: target.setExtremes(a, b, false); break;
+                case 4: target.addPlotBand(a); break;
+                case 5: target.removePlotBand(a); break;
+                case 6: target.addPlotLine(a); break;
+                case 7: target.removePlotLine(a); break;
+            }
+        }
+        if (redraw) {
+            chart.redraw();
+        }
+    }-*/;
+
+}
@@ -17,7 +17,9 @@
 package org.moxieapps.gwt.highcharts.client;
 
 import com.google.gwt.core.client.JavaScriptObject;
-import com.google.gwt.json.client.*;
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONValue;
 
 /**
  * A common base class that any of the objects which support configuration options will
@@ -30,6 +32,9 @@ import com.google.gwt.json.client.*;
  */
 public abstract class Configurable<T> {
 
+    // The options are written straight into a native object (instead of a graph of JSONValue wrappers), which
+    // is also what gets handed to Highcharts.  The JSONObject returned by getOptions() is a view onto it.
+    private JavaScriptObject nativeOptions;
     private JSONObject options;
 
     /**
@@ -73,10 +78,26 @@ public abstract class Configurable<T> {
      * @return A reference to this {@link Configurable} instance for convenient method chaining.
      */
     public T setOption(String path, Object value) {
-        if (options == null) {
-            options = new JSONObject();
+        return setOption(OptionPath.parse(path), value);
+    }
+
+    /**
+     * Set an option on the object at any level, exactly like {@link #setOption(String, Object)} but using
+     * a precompiled {@link OptionPath} so that the path doesn't need to be looked up again.
+     *
+     * @param path  The precompiled path to the option to set (e.g. <code>OptionPath.get("/title/text")</code>);
+     * @param value The value to set for the option (can be a String, Number, Boolean, or JSONObject)
+     * @return A reference to this {@link Configurable} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setOption(OptionPath path, Object value) {
+        if (nativeOptions == null) {
+            nativeOptions = JavaScriptObject.createObject();
+        }
+        if (path != null && path.getNodes().length > 0) {
+            final String[] nodes = path.getNodes();
+            putValue(nativeGetOrCreateParent(nativeOptions, path.getNativeNodes()), nodes[nodes.length - 1], value);
         }
-        setOption(options, path, value);
         @SuppressWarnings({"unchecked", "UnnecessaryLocalVariable"})
         final T instance = (T) this;
         return instance;
@@ -90,59 +111,104 @@ public abstract class Configurable<T> {
      *         that have been set on the instance (will be null if no options have been set)
      */
     public JSONObject getOptions() {
+        if (options == null && nativeOptions != null) {
+            options = new JSONObject(nativeOptions);
+        }
         return options;
     }
 
-    // Internal...
-    private void setOption(JSONObject rootObject, String path, Object value) {
-        if (path == null) {
-            return;
-        }
-        if (path.startsWith("/")) {
-            path = path.substring(1);
-        }
-        if (path.length() <= 0) {
-            return;
-        }
-        String nodeName = path;
-        if (nodeName.contains("/")) {
-            nodeName = nodeName.substring(0, nodeName.indexOf("/"));
-            JSONValue objectAsValue = rootObject.get(nodeName);
-            if (objectAsValue == null || objectAsValue.isObject() == null) {
-                rootObject.put(nodeName, new JSONObject());
-            }
-            JSONObject object = (JSONObject) rootObject.get(nodeName);
-            setOption(object, path.substring(path.indexOf("/") + 1), value);
-        } else {
-            rootObject.put(nodeName, convertToJSONValue(value));
+    // Purposefully restricted to package scope
+    JavaScriptObject getNativeOptions() {
+        return nativeOptions;
+    }
+
+    // Purposefully restricted to package scope, so that large values (such as the data of a series) can be
+    // let go of once Highcharts has taken ownership of them
+    void removeOption(String key) {
+        if (nativeOptions != null) {
+            nativePutObject(nativeOptions, key, null);
         }
     }
 
-    private JSONValue convertToJSONValue(Object value) {
+    // Internal...
+    private static void putValue(JavaScriptObject target, String key, Object value) {
         if (value == null) {
-            return JSONNull.getInstance();
-        } else if(value instanceof JSONValue) {
-            return (JSONValue)value;
-        } if (value instanceof Boolean) {
-            return JSONBoolean.getInstance((Boolean) value);
-        } else if (value instanceof Number) {
-            return new JSONNumber(((Number) value).doubleValue());
+            nativePutNull(target, key);
         } else if (value instanceof String) {
-            return new JSONString((String) value);
+            nativePutString(target, key, (String) value);
+        } else if (value instanceof Number) {
+            nativePutNumber(target, key, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            nativePutBoolean(target, key, (Boolean) value);
+        } else if (value instanceof JSONValue) {
+            putJSONValue(target, key, (JSONValue) value);
         } else if (value instanceof JavaScriptObject) {
-            return new JSONObject((JavaScriptObject)value);
+            nativePutObject(target, key, (JavaScriptObject) value);
         } else if (value instanceof Configurable) {
-            return ((Configurable)value).getOptions();
+            nativePutObject(target, key, ((Configurable) value).getNativeOptions());
         } else if (value.getClass().isArray()) {
-            JSONArray jsonArray = new JSONArray();
-            Object[] valueArray = (Object[]) value;
+            final JavaScriptObject array = JavaScriptObject.createArray();
+            final Object[] valueArray = (Object[]) value;
             for (int i = 0, valueArrayLength = valueArray.length; i < valueArrayLength; i++) {
-                Object arrayValue = valueArray[i];
-                jsonArray.set(i, convertToJSONValue(arrayValue));
+                putValue(array, String.valueOf(i), valueArray[i]);
             }
-            return jsonArray;
+            nativePutObject(target, key, array);
+        } else {
+            nativePutObject(target, key, null);
         }
-        return null;
     }
 
+    private static void putJSONValue(JavaScriptObject target, String key, JSONValue value) {
+        if (value.isObject() != null) {
+            nativePutObject(target, key, value.isObject().getJavaScriptObject());
+        } else if (value.isArray() != null) {
+            nativePutObject(target, key, value.isArray().getJavaScriptObject());
+        } else if (value.isString() != null) {
+            nativePutString(target, key, value.isString().stringValue());
+        } else if (value.isNumber() != null) {
+            nativePutNumber(target, key, value.isNumber().doubleValue());
+        } else if (value.isBoolean() != null) {
+            nativePutBoolean(target, key, value.isBoolean().booleanValue());
+        } else {
+            nativePutNull(target, key);
+        }
+    }
+
+    private static native JavaScriptObject nativeGetOrCreateParent(JavaScriptObject root, JsArrayString nodes) /*-{
+        var object = root;
+        for (var i = 0; i < nodes.length - 1; i++) {
+            var child = object[nodes[i]];
+            if (child == null || typeof child !== 'object' || child instanceof Array) {
+                child = object[nodes[i]] = {};
+            }
+            object = child;
+        }
+        return object;
+    }-*/;
+
+    private static native void nativePutNull(JavaScriptObject target, String key) /*-{
+        target[key] = null;
+    }-*/;
+
+    private static native void nativePutString(JavaScriptObject target, String key, String value) /*-{
+        target[key] = value;
+    }-*/;
+
+    private static native void nativePutNumber(JavaScriptObject target, String key, double value) /*-{
+        target[key] = value;
+    }-*/;
+
+    private static native void nativePutBoolean(JavaScriptObject target, String key, boolean value) /*-{
+        target[key] = value;
+    }-*/;
+
+    // A missing value removes the option altogether, consistent with JSONObject.put()
+    private static native void nativePutObject(JavaScriptObject target, String key, JavaScriptObject value) /*-{
+        if (value) {
+            target[key] = value;
+        } else {
+            delete target[key];
+        }
+    }-*/;
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client;
+
+/**
+ * The algorithms behind the {@link Series.Downsampling} options, which pick a visually representative
+ * subset of a large X/Y data set.  Both algorithms work on primitive columns of X values (which must be
+ * sorted in ascending order) and Y values (where NaN represents null), and return the indexes of the
+ * points that should be rendered.  (Purposefully restricted to package scope as this is an implementation
+ * detail of the Series class.)
+ *
+ * @since 1.7.0
+ */
+final class Downsampler {
+
+    private Downsampler() {
+    }
+
+    /**
+     * Find the index of the first point with an X value greater than or equal to the given value.
+     */
+    static int lowerBound(double[] xValues, double x) {
+        int low = 0;
+        int high = xValues.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (xValues[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets downsampling of the points within the range [from, to).  The first and last
+     * points are always kept, and each bucket in between contributes the point forming the largest triangle
+     * with the point kept from the previous bucket and the average of the next bucket.
+     *
+     * @return The number of indexes written to the given array (which must hold at least <code>min(to - from, max(threshold, 3))</code> values).
+     */
+    static int lttb(double[] xValues, double[] yValues, int from, int to, int threshold, int[] indexes) {
+        final int length = to - from;
+        threshold = Math.max(threshold, 3);
+        if (threshold >= length) {
+            return copyRange(from, to, indexes);
+        }
+
+        final double every = (double) (length - 2) / (threshold - 2);
+        int count = 0;
+        int a = from;
+        indexes[count++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+
+            // Average of the next bucket, used as the third point of the triangle
+            int averageStart = from + (int) Math.floor((i + 1) * every) + 1;
+            int averageEnd = Math.min(from + (int) Math.floor((i + 2) * every) + 1, to);
+            double averageX = 0;
+            double averageY = 0;
+            int averageCount = 0;
+            for (int j = averageStart; j < averageEnd; j++) {
+                if (!Double.isNaN(yValues[j])) {
+                    averageX += xValues[j];
+                    averageY += yValues[j];
+                    averageCount++;
+                }
+            }
+            if (averageCount > 0) {
+                averageX /= averageCount;
+                averageY /= averageCount;
+            } else {
+                averageX = xValues[Math.min(averageStart, to - 1)];
+                averageY = Double.isNaN(yValues[a]) ? 0 : yValues[a];
+            }
+
+            // Pick the point of the current bucket forming the largest triangle
+            final int rangeStart = from + (int) Math.floor(i * every) + 1;
+            final int rangeEnd = from + (int) Math.floor((i + 1) * every) + 1;
+            final double pointAX = xValues[a];
+            final double pointAY = Double.isNaN(yValues[a]) ? averageY : yValues[a];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                if (Double.isNaN(yValues[j])) {
+                    continue;
+                }
+                final double area = Math.abs((pointAX - averageX) * (yValues[j] - pointAY) - (pointAX - xValues[j]) * (averageY - pointAY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            indexes[count++] = next;
+            a = next;
+        }
+
+        indexes[count++] = to - 1;
+        return count;
+    }
+
+    /**
+     * M4 downsampling of the points within the range [from, to), which splits the range into <code>buckets</code>
+     * equally wide slices of the X axis (normally one per pixel) and keeps the first, last, minimum, and maximum
+     * point of each slice.  This preserves spikes that LTTB can smooth away.
+     *
+     * @return The number of indexes written to the given array (which must hold at least <code>min(to - from, max(buckets, 1) * 4)</code> values).
+     */
+    static int m4(double[] xValues, double[] yValues, int from, int to, int buckets, int[] indexes) {
+        final int length = to - from;
+        buckets = Math.max(buckets, 1);
+        if (length <= buckets * 4) {
+            return copyRange(from, to, indexes);
+        }
+
+        final double minX = xValues[from];
+        final double width = xValues[to - 1] - minX;
+        int count = 0;
+        int bucket = -1;
+        int first = -1;
+        int last = -1;
+        int min = -1;
+        int max = -1;
+        for (int i = from; i < to; i++) {
+            final int pointBucket = width > 0 ? Math.min((int) ((xValues[i] - minX) / width * buckets), buckets - 1) : 0;
+            if (pointBucket != bucket) {
+                count = appendBucket(indexes, count, first, min, max, last);
+                bucket = pointBucket;
+                first = i;
+                min = -1;
+                max = -1;
+            }
+            last = i;
+            final double y = yValues[i];
+            if (!Double.isNaN(y)) {
+                if (min < 0 || y < yValues[min]) {
+                    min = i;
+                }
+                if (max < 0 || y > yValues[max]) {
+                    max = i;
+                }
+            }
+        }
+        return appendBucket(indexes, count, first, min, max, last);
+    }
+
+    // Writes the distinct indexes of a bucket in ascending order, so the resulting series is still sorted by X
+    private static int appendBucket(int[] indexes, int count, int first, int min, int max, int last) {
+        if (first < 0) {
+            return count;
+        }
+        indexes[count++] = first;
+        int low = min < max ? min : max;
+        int high = min < max ? max : min;
+        if (low > first && low < last) {
+            indexes[count++] = low;
+        }
+        if (high > first && high < last && high != low) {
+            indexes[count++] = high;
+        }
+        if (last != first) {
+            indexes[count++] = last;
+        }
+        return count;
+    }
+
+    private static int copyRange(int from, int to, int[] indexes) {
+        for (int i = from; i < to; i++) {
+            indexes[i - from] = i;
+        }
+        return to - from;
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A precompiled option path (e.g. "/title/text"), as accepted by the {@link Configurable#setOption(OptionPath, Object)}
+ * and {@link BaseChart#setOption(OptionPath, Object)} methods.  The path is split into its nodes only once, and
+ * instances are interned, so that setting an option via a path that has been used before doesn't require
+ * parsing the path again.  (The string based <code>setOption()</code> methods reuse an interned path when there
+ * is one, but parse any other path without interning it, so that arbitrary paths don't pile up in memory.  Only
+ * paths passed to {@link #get(String)} are interned, which is why it is meant for options that are set very often.)
+ * General usage is as follows:
+ * <code><pre>
+ * private static final OptionPath TITLE_TEXT = OptionPath.get("/title/text");
+ * ...
+ * chart.setOption(TITLE_TEXT, "Nice Chart");
+ * </pre></code>
+ *
+ * @since 1.7.0
+ */
+public final class OptionPath {
+
+    private static final HashMap<String, OptionPath> INTERNED = new HashMap<String, OptionPath>();
+
+    private final String path;
+    private final String[] nodes;
+    private JsArrayString nativeNodes;
+
+    private OptionPath(String path) {
+        this.path = path;
+
+        // Consistent with how paths have always been handled, empty nodes (e.g. "a//b") are skipped, and a
+        // path ending with a "/" doesn't point to an option at all
+        final ArrayList<String> nodeList = new ArrayList<String>();
+        final String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (!trimmed.endsWith("/")) {
+            int start = 0;
+            while (start < trimmed.length()) {
+                int end = trimmed.indexOf('/', start);
+                if (end < 0) {
+                    end = trimmed.length();
+                }
+                if (end > start) {
+                    nodeList.add(trimmed.substring(start, end));
+                }
+                start = end + 1;
+            }
+        }
+        this.nodes = nodeList.toArray(new String[nodeList.size()]);
+    }
+
+    /**
+     * Returns the precompiled instance of the given path, where the nodes of the path are separated
+     * by "/" characters (and the beginning "/" is optional).
+     *
+     * @param path The path to an option (e.g. "/title/text").
+     * @return The interned OptionPath instance for the path, or null if the given path is null.
+     */
+    public static OptionPath get(String path) {
+        if (path == null) {
+            return null;
+        }
+        OptionPath optionPath = INTERNED.get(path);
+        if (optionPath == null) {
+            optionPath = new OptionPath(path);
+            INTERNED.put(path, optionPath);
+        }
+        return optionPath;
+    }
+
+    // Purposefully restricted to package scope, as the string based setOption() methods parse throwaway paths
+    // on the fly instead of interning every path they are ever given
+    static OptionPath parse(String path) {
+        if (path == null) {
+            return null;
+        }
+        final OptionPath optionPath = INTERNED.get(path);
+        return optionPath != null ? optionPath : new OptionPath(path);
+    }
+
+    // Purposefully restricted to package scope
+    String[] getNodes() {
+        return nodes;
+    }
+
+    // Purposefully restricted to package scope, as the nodes are also needed in native form to walk the options
+    JsArrayString getNativeNodes() {
+        if (nativeNodes == null) {
+            nativeNodes = JavaScriptObject.createArray().cast();
+            for (String node : nodes) {
+                nativeNodes.push(node);
+            }
+        }
+        return nativeNodes;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+}
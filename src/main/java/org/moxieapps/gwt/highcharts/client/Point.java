@@ -218,7 +218,7 @@ public class Point extends Configurable<Point> {
      */
     public Point(JavaScriptObject nativePoint) {
         this.nativePoint = nativePoint;
-        this.type = determineType(nativePoint);
+        this.type = resolveType(nativePoint);
     }
         
     /**
@@ -555,9 +555,9 @@ public class Point extends Configurable<Point> {
     public Point remove(boolean redraw, Animation animation) {
         if (this.nativePoint != null) {
             if (animation == null || animation.getOptions() == null) {
-                nativeRemove(this.nativePoint, redraw, animation != null);
+                nativeRemove(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
             } else {
-                nativeRemove(this.nativePoint, redraw, animation.getOptions().getJavaScriptObject());
+                nativeRemove(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
             }
         }
         // Nothing to do if this point isn't connected to a Highcharts JS point instance
@@ -649,9 +649,9 @@ public class Point extends Configurable<Point> {
     public Point slice(boolean sliced, boolean redraw, Animation animation) {
         if (this.nativePoint != null) {
             if (animation == null || animation.getOptions() == null) {
-                nativeSlice(this.nativePoint, sliced, redraw, animation != null);
+                nativeSlice(this.nativePoint, sliced, BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
             } else {
-                nativeSlice(this.nativePoint, sliced, redraw, animation.getOptions().getJavaScriptObject());
+                nativeSlice(this.nativePoint, sliced, BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
             }
         } else {
             setSliced(sliced);
@@ -703,9 +703,9 @@ public class Point extends Configurable<Point> {
     public Point sliceToggle(boolean redraw, Animation animation) {
         if (this.nativePoint != null) {
             if (animation == null || animation.getOptions() == null) {
-                nativeSlice(this.nativePoint, redraw, animation != null);
+                nativeSlice(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
             } else {
-                nativeSlice(this.nativePoint, redraw, animation.getOptions().getJavaScriptObject());
+                nativeSlice(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
             }
         } else {
             setSliced(!sliced);
@@ -919,22 +919,22 @@ public class Point extends Configurable<Point> {
             if (animation == null || animation.getOptions() == null) {
                 if (pointOptions.isSingleValue()) {
                     if (pointOptions.getY() == null) {
-                        nativeUpdateToNull(this.nativePoint, redraw, animation != null);
+                        nativeUpdateToNull(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
                     } else {
-                        nativeUpdate(this.nativePoint, pointOptions.getY().doubleValue(), redraw, animation != null);
+                        nativeUpdate(this.nativePoint, pointOptions.getY().doubleValue(), BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
                     }
                 } else {
-                    nativeUpdate(this.nativePoint, convertPointToJavaScriptObject(pointOptions), redraw, animation != null);
+                    nativeUpdate(this.nativePoint, convertPointToJavaScriptObject(pointOptions), BaseChart.requestRedraw(this.nativePoint, redraw), animation != null);
                 }
             } else {
                 if (pointOptions.isSingleValue()) {
                     if (pointOptions.getY() == null) {
-                        nativeUpdateToNull(this.nativePoint, redraw, animation.getOptions().getJavaScriptObject());
+                        nativeUpdateToNull(this.nativePoint, BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
                     } else {
-                        nativeUpdate(this.nativePoint, pointOptions.getY().doubleValue(), redraw, animation.getOptions().getJavaScriptObject());
+                        nativeUpdate(this.nativePoint, pointOptions.getY().doubleValue(), BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
                     }
                 } else {
-                    nativeUpdate(this.nativePoint, convertPointToJavaScriptObject(pointOptions), redraw, animation.getOptions().getJavaScriptObject());
+                    nativeUpdate(this.nativePoint, convertPointToJavaScriptObject(pointOptions), BaseChart.requestRedraw(this.nativePoint, redraw), animation.getOptions().getJavaScriptObject());
                 }
             }
         } else {
@@ -978,6 +978,23 @@ public class Point extends Configurable<Point> {
     // Only needed and used when handling removing of points from charts that have been set in "persistent" mode
     private String id;
 
+    // Internal method purposefully package scope, used to sync a stored point with its native counterpart
+    void setValue(String field, Number value) {
+        if ("x".equals(field)) {
+            this.x = value;
+        } else if ("y".equals(field)) {
+            this.y = value;
+        } else if ("low".equals(field)) {
+            this.low = value;
+        } else if ("high".equals(field)) {
+            this.high = value;
+        } else if ("open".equals(field)) {
+            this.open = value;
+        } else if ("close".equals(field)) {
+            this.close = value;
+        }
+    }
+
     // Internal method purposefully package scope
     void setId(String id) {
         this.id = id;
@@ -1001,7 +1018,31 @@ public class Point extends Configurable<Point> {
         return options.getJavaScriptObject();
     }
 
-    private static Type determineType(JavaScriptObject nativePoint) {
+    // Cached as Type.values() returns a new copy of the array on every call
+    private static final Type[] TYPES = Type.values();
+
+    // All of the points within a series share the same shape, so the type is only worked out for the first
+    // point that is looked at and then cached on the native series for all of the points that follow
+    private static Type resolveType(JavaScriptObject nativePoint) {
+        final int cachedType = nativeGetSeriesPointType(nativePoint);
+        if (cachedType >= 0) {
+            return TYPES[cachedType];
+        }
+
+        final Series.Type seriesType = Series.Type.fromOptionName(nativeGetSeriesType(nativePoint));
+        Type type = seriesType != null ? seriesType.getPointType() : null;
+        if (type == null) {
+            type = determineTypeFromKeys(nativePoint);
+        }
+        if (type == null) {
+            // A null point doesn't tell us anything about the rest of the series, so don't cache the outcome
+            return determineTypeFromDataLength(nativePoint);
+        }
+        nativeSetSeriesPointType(nativePoint, type.ordinal());
+        return type;
+    }
+
+    private static Type determineTypeFromKeys(JavaScriptObject nativePoint) {
         boolean hasX = nativeContainsKey(nativePoint, "x");
         boolean hasY = nativeContainsKey(nativePoint, "y");
         boolean hasLow = nativeContainsKey(nativePoint, "low");
@@ -1021,8 +1062,11 @@ public class Point extends Configurable<Point> {
         if (hasY) {
             return Type.Y;
         }
+        return null;
+    }
 
-        // Fall back on determining based on data array length
+    // Fall back on determining based on data array length
+    private static Type determineTypeFromDataLength(JavaScriptObject nativePoint) {
         int dataLength = nativeGetDataLength(nativePoint);
         switch (dataLength) {
             case 1:
@@ -1054,6 +1098,22 @@ public class Point extends Configurable<Point> {
         return this.nativePoint;
     }
 
+    private static native int nativeGetSeriesPointType(JavaScriptObject point) /*-{
+        var series = point != null ? point.series : null;
+        return series != null && typeof series.gwtPointType === "number" ? series.gwtPointType : -1;
+    }-*/;
+
+    private static native void nativeSetSeriesPointType(JavaScriptObject point, int type) /*-{
+        if (point != null && point.series != null) {
+            point.series.gwtPointType = type;
+        }
+    }-*/;
+
+    private static native String nativeGetSeriesType(JavaScriptObject point) /*-{
+        var series = point != null ? point.series : null;
+        return series != null && typeof series.type === "string" ? series.type : null;
+    }-*/;
+
     private static native boolean nativeContainsKey(JavaScriptObject point, String key) /*-{
         return (typeof key !== "undefined" && point != null && point[key] != null);
     }-*/;
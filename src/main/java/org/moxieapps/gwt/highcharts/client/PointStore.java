@@ -0,0 +1,591 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONValue;
+
+/**
+ * A columnar store for the points that a {@link Series} holds on to itself, which is the case before
+ * the series is rendered and for the entire life of a series within a chart that has been placed into
+ * "persistent" mode.  Instead of retaining a {@link Point} instance (with its boxed values and options
+ * object) per point, the values of the points are kept in one primitive array per field, according to
+ * the type of the first point added to the store.  The name, color, and user data of a point are kept
+ * in side tables that are only allocated once a point actually uses them, and any point carrying other
+ * options (or whose type doesn't match the rest of the series) is retained as is.  Point instances are
+ * only created again when they are asked for.  (Purposefully restricted to package scope as this is an
+ * implementation detail of the Series class.)
+ *
+ * @since 1.7.0
+ */
+class PointStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The type of all of the points held in the value columns, determined by the first point added
+    private Point.Type type;
+    private int size;
+    private int capacity;
+
+    // One array per value of the point type, in constructor order (e.g. x, open, high, low, close).  NaN represents null.
+    private double[][] columns;
+
+    // Side tables, which stay null until a point needs them
+    private String[] ids;
+    private String[] names;
+    private String[] colors;
+    private JSONObject[] userData;
+    private Point[] configuredPoints;
+
+    // Maps the id of each stored point to its slot plus the number of points shifted off the front of the
+    // store, so that shifting points off doesn't require renumbering everything that follows them
+    private HashMap<String, Integer> slotsById;
+    private int shiftedCount;
+
+    // Points removed by id are only flagged, and the store is compacted the next time it's accessed by index
+    private boolean[] removed;
+    private int removedCount;
+
+    int size() {
+        return size - removedCount;
+    }
+
+    Point.Type getType() {
+        return type;
+    }
+
+    void clear() {
+        type = null;
+        size = 0;
+        capacity = 0;
+        columns = null;
+        ids = null;
+        names = null;
+        colors = null;
+        userData = null;
+        configuredPoints = null;
+        slotsById = null;
+        shiftedCount = 0;
+        removed = null;
+        removedCount = 0;
+    }
+
+    void ensureCapacity(int minCapacity) {
+        if (columns != null && minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Append a point to the store, keeping only its values (and name, color, and user data) if that's
+     * all the point carries, or the point itself otherwise.
+     */
+    void add(Point point) {
+        if (point == null) {
+            point = new Point((Number) null);
+        }
+        if (type == null) {
+            initialize(point.getType() == Point.Type.FLAG ? Point.Type.X_Y : point.getType());
+        }
+        final int index = size;
+        reserve(index + 1);
+        size++;
+
+        if (point.getType() != type || point.getNativePoint() != null || !setSideValues(index, point.getOptions())) {
+            clearValues(index);
+            if (configuredPoints == null) {
+                configuredPoints = new Point[capacity];
+            }
+            configuredPoints[index] = point;
+        } else {
+            setValues(index, point);
+        }
+        if (point.getId() != null) {
+            assignId(index, point.getId());
+        }
+    }
+
+    /**
+     * Append a set of points given as parallel primitive arrays of values, with one array per value of
+     * the point type (as passed to the Series "setPoints(double[]...)" methods).
+     */
+    void addColumns(double[][] values) {
+        final Point.Type valuesType = getTypeForColumnCount(values.length);
+        if (type == null) {
+            initialize(valuesType);
+        }
+        final int length = values[0].length;
+        if (valuesType != type) {
+            for (int i = 0; i < length; i++) {
+                add(Series.convertColumnsToPoint(values, i));
+            }
+            return;
+        }
+        reserve(size + length);
+        for (int j = 0; j < columns.length; j++) {
+            System.arraycopy(values[j], 0, columns[j], size, length);
+        }
+        size += length;
+    }
+
+    /**
+     * Recreate the point stored at the given index.  Points that were stored as is are returned
+     * as the same instance that was originally added.
+     */
+    Point get(int index) {
+        compact();
+        if (configuredPoints != null && configuredPoints[index] != null) {
+            return configuredPoints[index];
+        }
+        final Point point = createPoint(index);
+        if (names != null && names[index] != null) {
+            point.setName(names[index]);
+        }
+        if (colors != null && colors[index] != null) {
+            point.setColor(colors[index]);
+        }
+        if (userData != null && userData[index] != null) {
+            point.setUserData(userData[index]);
+        }
+        if (ids != null && ids[index] != null) {
+            point.setId(ids[index]);
+        }
+        return point;
+    }
+
+    ArrayList<Point> toList() {
+        compact();
+        final ArrayList<Point> points = new ArrayList<Point>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(get(i));
+        }
+        return points;
+    }
+
+    /**
+     * Copy one value of each stored point into the given array, without recreating any of the points
+     * that were stored as plain values.
+     *
+     * @param field One of "x", "y", "low", "high", "open" or "close".
+     * @return The number of points in the store (only as many values as fit are written).
+     */
+    int readColumn(String field, double[] dest) {
+        compact();
+        final int count = Math.min(size, dest.length);
+        final int column = type != null ? getColumnIndex(type, field) : -1;
+        if (column >= 0) {
+            System.arraycopy(columns[column], 0, dest, 0, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                dest[i] = Double.NaN;
+            }
+        }
+        if (configuredPoints != null) {
+            for (int i = 0; i < count; i++) {
+                if (configuredPoints[i] != null) {
+                    dest[i] = toDouble(getValue(configuredPoints[i], field));
+                }
+            }
+        }
+        return size;
+    }
+
+    String getId(int index) {
+        compact();
+        return getIdAt(index);
+    }
+
+    void setId(int index, String id) {
+        compact();
+        assignId(index, id);
+    }
+
+    /**
+     * Returns the index of the point with the given id, or -1 if there is no such point in the store.
+     */
+    int indexOfId(String id) {
+        compact();
+        final Integer position = slotsById != null ? slotsById.get(id) : null;
+        return position != null ? position - shiftedCount : -1;
+    }
+
+    /**
+     * Overwrite one value of the point with the given id, such as after the point was dragged to a new
+     * position on the chart.  Values that the stored points don't have are ignored.
+     *
+     * @param field One of "x", "y", "low", "high", "open" or "close".
+     * @return true if a point with the given id was found.
+     */
+    boolean setValue(String id, String field, double value) {
+        final int index = indexOfId(id);
+        if (index < 0) {
+            return false;
+        }
+        if (configuredPoints != null && configuredPoints[index] != null) {
+            configuredPoints[index].setValue(field, toNumber(value));
+        } else {
+            final int column = getColumnIndex(type, field);
+            if (column >= 0) {
+                columns[column][index] = value;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove the point with the given id from the store, in constant time.
+     *
+     * @return true if a point with the given id was found and removed.
+     */
+    boolean removeById(String id) {
+        final Integer position = slotsById != null ? slotsById.remove(id) : null;
+        if (position == null) {
+            return false;
+        }
+        final int slot = position - shiftedCount;
+        if (removed == null) {
+            removed = new boolean[capacity];
+        }
+        removed[slot] = true;
+        removedCount++;
+
+        // Let go of anything the removed point was holding on to right away
+        clearSlot(ids, slot);
+        clearSlot(names, slot);
+        clearSlot(colors, slot);
+        clearSlot(userData, slot);
+        clearSlot(configuredPoints, slot);
+        return true;
+    }
+
+    /**
+     * Remove the given number of points from the start of the store, all in one step.
+     */
+    void removeFirst(int count) {
+        compact();
+        count = Math.min(count, size);
+        if (count <= 0) {
+            return;
+        }
+        if (slotsById != null) {
+            for (int i = 0; i < count; i++) {
+                final String id = getIdAt(i);
+                if (id != null) {
+                    slotsById.remove(id);
+                }
+            }
+        }
+        final int moved = size - count;
+        for (double[] column : columns) {
+            System.arraycopy(column, count, column, 0, moved);
+        }
+        shiftTable(ids, count, moved);
+        shiftTable(names, count, moved);
+        shiftTable(colors, count, moved);
+        shiftTable(userData, count, moved);
+        shiftTable(configuredPoints, count, moved);
+        size = moved;
+        shiftedCount += count;
+    }
+
+    private void shiftTable(Object[] table, int count, int moved) {
+        if (table != null) {
+            System.arraycopy(table, count, table, 0, moved);
+            for (int i = moved; i < moved + count; i++) {
+                table[i] = null;
+            }
+        }
+    }
+
+    private static void clearSlot(Object[] table, int slot) {
+        if (table != null) {
+            table[slot] = null;
+        }
+    }
+
+    private String getIdAt(int slot) {
+        if (configuredPoints != null && configuredPoints[slot] != null) {
+            return configuredPoints[slot].getId();
+        }
+        return ids != null ? ids[slot] : null;
+    }
+
+    private void assignId(int slot, String id) {
+        final String previousId = getIdAt(slot);
+        if (previousId != null && slotsById != null && !previousId.equals(id)) {
+            slotsById.remove(previousId);
+        }
+        if (configuredPoints != null && configuredPoints[slot] != null) {
+            configuredPoints[slot].setId(id);
+        } else if (id != null || ids != null) {
+            if (ids == null) {
+                ids = new String[capacity];
+            }
+            ids[slot] = id;
+        }
+        if (id != null) {
+            if (slotsById == null) {
+                slotsById = new HashMap<String, Integer>();
+            }
+            slotsById.put(id, slot + shiftedCount);
+        }
+    }
+
+    // Closes the gaps left behind by any points that were removed by id, in a single pass
+    private void compact() {
+        if (removedCount == 0) {
+            return;
+        }
+        int live = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (removed[slot]) {
+                continue;
+            }
+            if (live != slot) {
+                for (double[] column : columns) {
+                    column[live] = column[slot];
+                }
+                moveSlot(ids, slot, live);
+                moveSlot(names, slot, live);
+                moveSlot(colors, slot, live);
+                moveSlot(userData, slot, live);
+                moveSlot(configuredPoints, slot, live);
+                final String id = getIdAt(live);
+                if (id != null && slotsById != null) {
+                    slotsById.put(id, live + shiftedCount);
+                }
+            }
+            live++;
+        }
+        size = live;
+        removed = null;
+        removedCount = 0;
+    }
+
+    private static void moveSlot(Object[] table, int from, int to) {
+        if (table != null) {
+            table[to] = table[from];
+            table[from] = null;
+        }
+    }
+
+    private void initialize(Point.Type type) {
+        this.type = type;
+        this.capacity = INITIAL_CAPACITY;
+        this.columns = new double[getColumnCount(type)][INITIAL_CAPACITY];
+    }
+
+    private void reserve(int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(Math.max(minCapacity, capacity + (capacity >> 1)));
+        }
+    }
+
+    private void grow(int newCapacity) {
+        for (int j = 0; j < columns.length; j++) {
+            final double[] column = new double[newCapacity];
+            System.arraycopy(columns[j], 0, column, 0, size);
+            columns[j] = column;
+        }
+        if (ids != null) {
+            final String[] table = new String[newCapacity];
+            System.arraycopy(ids, 0, table, 0, size);
+            ids = table;
+        }
+        if (names != null) {
+            final String[] table = new String[newCapacity];
+            System.arraycopy(names, 0, table, 0, size);
+            names = table;
+        }
+        if (colors != null) {
+            final String[] table = new String[newCapacity];
+            System.arraycopy(colors, 0, table, 0, size);
+            colors = table;
+        }
+        if (userData != null) {
+            final JSONObject[] table = new JSONObject[newCapacity];
+            System.arraycopy(userData, 0, table, 0, size);
+            userData = table;
+        }
+        if (configuredPoints != null) {
+            final Point[] table = new Point[newCapacity];
+            System.arraycopy(configuredPoints, 0, table, 0, size);
+            configuredPoints = table;
+        }
+        if (removed != null) {
+            final boolean[] table = new boolean[newCapacity];
+            System.arraycopy(removed, 0, table, 0, size);
+            removed = table;
+        }
+        capacity = newCapacity;
+    }
+
+    // Keeps the name, color, and user data of the point in the side tables, returning false if the point
+    // has any other options that would require holding on to the point itself
+    private boolean setSideValues(int index, JSONObject options) {
+        if (options == null) {
+            return true;
+        }
+        String name = null;
+        String color = null;
+        JSONObject data = null;
+        for (String key : options.keySet()) {
+            final JSONValue value = options.get(key);
+            if ("name".equals(key) && value != null && value.isString() != null) {
+                name = value.isString().stringValue();
+            } else if ("color".equals(key) && value != null && value.isString() != null) {
+                color = value.isString().stringValue();
+            } else if ("userData".equals(key) && value != null && value.isObject() != null) {
+                data = value.isObject();
+            } else {
+                return false;
+            }
+        }
+        if (name != null) {
+            if (names == null) {
+                names = new String[capacity];
+            }
+            names[index] = name;
+        }
+        if (color != null) {
+            if (colors == null) {
+                colors = new String[capacity];
+            }
+            colors[index] = color;
+        }
+        if (data != null) {
+            if (userData == null) {
+                userData = new JSONObject[capacity];
+            }
+            userData[index] = data;
+        }
+        return true;
+    }
+
+    private void setValues(int index, Point point) {
+        switch (type) {
+            case Y:
+                columns[0][index] = toDouble(point.getY());
+                break;
+            case X_LOW_HIGH:
+                columns[0][index] = toDouble(point.getX());
+                columns[1][index] = toDouble(point.getLow());
+                columns[2][index] = toDouble(point.getHigh());
+                break;
+            case X_OPEN_HIGH_LOW_CLOSE:
+                columns[0][index] = toDouble(point.getX());
+                columns[1][index] = toDouble(point.getOpen());
+                columns[2][index] = toDouble(point.getHigh());
+                columns[3][index] = toDouble(point.getLow());
+                columns[4][index] = toDouble(point.getClose());
+                break;
+            default:
+                columns[0][index] = toDouble(point.getX());
+                columns[1][index] = toDouble(point.getY());
+        }
+    }
+
+    private void clearValues(int index) {
+        for (double[] column : columns) {
+            column[index] = Double.NaN;
+        }
+    }
+
+    private Point createPoint(int index) {
+        switch (type) {
+            case Y:
+                return new Point(toNumber(columns[0][index]));
+            case X_LOW_HIGH:
+                return new Point(toNumber(columns[0][index]), toNumber(columns[1][index]), toNumber(columns[2][index]));
+            case X_OPEN_HIGH_LOW_CLOSE:
+                return new Point(toNumber(columns[0][index]), toNumber(columns[1][index]), toNumber(columns[2][index]),
+                    toNumber(columns[3][index]), toNumber(columns[4][index]));
+            default:
+                return new Point(toNumber(columns[0][index]), toNumber(columns[1][index]));
+        }
+    }
+
+    private static int getColumnCount(Point.Type type) {
+        switch (type) {
+            case Y:
+                return 1;
+            case X_LOW_HIGH:
+                return 3;
+            case X_OPEN_HIGH_LOW_CLOSE:
+                return 5;
+            default:
+                return 2;
+        }
+    }
+
+    private static int getColumnIndex(Point.Type type, String field) {
+        if ("x".equals(field)) {
+            return type != Point.Type.Y ? 0 : -1;
+        }
+        switch (type) {
+            case Y:
+                return "y".equals(field) ? 0 : -1;
+            case X_LOW_HIGH:
+                return "low".equals(field) ? 1 : "high".equals(field) ? 2 : -1;
+            case X_OPEN_HIGH_LOW_CLOSE:
+                return "open".equals(field) ? 1 : "high".equals(field) ? 2 : "low".equals(field) ? 3 : "close".equals(field) ? 4 : -1;
+            default:
+                return "y".equals(field) ? 1 : -1;
+        }
+    }
+
+    private static Number getValue(Point point, String field) {
+        if ("x".equals(field)) {
+            return point.getX();
+        } else if ("y".equals(field)) {
+            return point.getY();
+        } else if ("low".equals(field)) {
+            return point.getLow();
+        } else if ("high".equals(field)) {
+            return point.getHigh();
+        } else if ("open".equals(field)) {
+            return point.getOpen();
+        } else {
+            return point.getClose();
+        }
+    }
+
+    private static Point.Type getTypeForColumnCount(int count) {
+        switch (count) {
+            case 1:
+                return Point.Type.Y;
+            case 3:
+                return Point.Type.X_LOW_HIGH;
+            case 5:
+                return Point.Type.X_OPEN_HIGH_LOW_CLOSE;
+            default:
+                return Point.Type.X_Y;
+        }
+    }
+
+    private static double toDouble(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+}
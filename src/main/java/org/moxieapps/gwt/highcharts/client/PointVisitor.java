@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client;
+
+/**
+ * An interface that can be used to scan through the values of all of the points in a series without
+ * creating a {@link Point} instance for each of them, which is considerably cheaper than calling
+ * {@link Series#getPoints()} when computing a statistic over a large series.  General usage is as follows:
+ * <code><pre>
+ * final double[] sum = new double[1];
+ * series.forEachPoint(new PointVisitor() {
+ *     public void visit(int index, double x, double y, double low, double high, double open, double close) {
+ *         if (!Double.isNaN(y)) {
+ *             sum[0] += y;
+ *         }
+ *     }
+ * });
+ * </pre></code>
+ *
+ * @see Series#forEachPoint(PointVisitor)
+ * @since 1.7.0
+ */
+public interface PointVisitor {
+
+    /**
+     * Called once for each point in the series, in the order of the points within the series.  Any value
+     * that the point doesn't have (e.g. "open" on a line series) or which is null is passed as <code>Double.NaN</code>.
+     *
+     * @param index The index of the point within the series.
+     * @param x     The X value of the point.
+     * @param y     The Y value of the point.
+     * @param low   The "low" value of the point (area range and OHLC series).
+     * @param high  The "high" value of the point (area range and OHLC series).
+     * @param open  The "open" value of the point (OHLC series).
+     * @param close The "close" value of the point (OHLC series).
+     */
+    void visit(int index, double x, double y, double low, double high, double open, double close);
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.moxieapps.gwt.highcharts.client;
+
+import java.util.ArrayList;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler;
+
+/**
+ * Spreads the work of rendering charts (and of applying live updates to them) across animation frames, so that
+ * a page that attaches many charts at once stays responsive while they're built.  Charts opt in via the
+ * {@link BaseChart#setRenderScheduler(RenderScheduler)} method, after which attaching the chart queues its
+ * construction instead of running it right away, and the streaming and batched redraw updates of the chart
+ * are queued in the same way.  Within each frame the scheduler runs as many of the queued tasks as fit within
+ * its {@link #setFrameBudget(int) frame budget} (but always at least one), picking the tasks of charts that were
+ * recently interacted with first, then those of charts that are visible within the browser window, and then the
+ * rest in the order they were queued.  General usage is as follows:
+ * <code><pre>
+ * for (Chart chart : dashboardCharts) {
+ *     chart.setRenderScheduler(RenderScheduler.get());
+ *     dashboard.add(chart);
+ * }
+ * </pre></code>
+ * Note that until a queued chart has actually been rendered, it behaves just like a chart that hasn't been
+ * attached yet (e.g. {@link BaseChart#isRendered()} returns false, and any points added to its series are held on
+ * to until it's rendered).
+ *
+ * @since 1.7.0
+ */
+public class RenderScheduler {
+
+    // How long (in milliseconds) a chart is given priority after the user has interacted with it
+    private static final double INTERACTION_PRIORITY_TIME = 3000;
+
+    private static RenderScheduler sharedInstance;
+
+    /**
+     * Returns the scheduler shared by the whole application, which is normally the one to use so that all of
+     * the charts on the page share the same budget.
+     *
+     * @return The shared RenderScheduler instance.
+     */
+    public static RenderScheduler get() {
+        if (sharedInstance == null) {
+            sharedInstance = new RenderScheduler();
+        }
+        return sharedInstance;
+    }
+
+    // A unit of work queued on behalf of a chart, along with when it was queued and its priority as of the
+    // start of the current frame
+    private static class Task {
+        private final BaseChart<?> chart;
+        private final Scheduler.ScheduledCommand command;
+        private final double queuedTime;
+        private int priority;
+
+        private Task(BaseChart<?> chart, Scheduler.ScheduledCommand command, double queuedTime) {
+            this.chart = chart;
+            this.command = command;
+            this.queuedTime = queuedTime;
+        }
+    }
+
+    // Purposefully not using the generic "List" interface here in order to optimize GWT performance.
+    private final ArrayList<Task> queue = new ArrayList<Task>();
+
+    private int frameBudget = 8;
+    private boolean running;
+    private double frameStartTime = -1;
+
+    // Statistics about how long the tasks that have been run had to wait in the queue
+    private int executedCount;
+    private double totalWaitTime;
+    private double maxWaitTime;
+
+    private final Scheduler.RepeatingCommand runner = new Scheduler.RepeatingCommand() {
+        public boolean execute() {
+            return runNextTask();
+        }
+    };
+
+    /**
+     * Create a scheduler of its own, with a budget separate from the shared one.  Normally the shared instance
+     * returned by {@link #get()} should be used instead.
+     */
+    public RenderScheduler() {
+    }
+
+    /**
+     * Sets how much time (in milliseconds) the scheduler can spend running queued tasks within each animation
+     * frame.  Once the budget is used up the remaining tasks wait for the next frame, which leaves the rest of
+     * the frame to the browser and to the rest of the application.  Note that at least one task is run per frame
+     * regardless of how long it takes.  Defaults to 8 milliseconds.
+     *
+     * @param frameBudget The time to spend per frame, in milliseconds.
+     * @return A reference to this {@link RenderScheduler} instance for convenient method chaining.
+     */
+    public RenderScheduler setFrameBudget(int frameBudget) {
+        this.frameBudget = Math.max(frameBudget, 0);
+        return this;
+    }
+
+    /**
+     * Returns the time (in milliseconds) the scheduler can spend running queued tasks within each animation
+     * frame, as set via {@link #setFrameBudget(int)}.
+     *
+     * @return The time to spend per frame, in milliseconds.
+     */
+    public int getFrameBudget() {
+        return frameBudget;
+    }
+
+    /**
+     * Returns the number of tasks (chart renders and live updates) that are currently waiting to be run.
+     *
+     * @return The number of queued tasks.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns how long (in milliseconds) the oldest of the currently queued tasks has been waiting so far.
+     *
+     * @return The time the oldest queued task has been waiting, or 0 if the queue is empty.
+     */
+    public double getOldestWaitTime() {
+        if (queue.isEmpty()) {
+            return 0;
+        }
+        double oldest = queue.get(0).queuedTime;
+        for (int i = 1, size = queue.size(); i < size; i++) {
+            oldest = Math.min(oldest, queue.get(i).queuedTime);
+        }
+        return Duration.currentTimeMillis() - oldest;
+    }
+
+    /**
+     * Returns the number of tasks that have been run since the scheduler was created (or its statistics were
+     * last reset via {@link #resetStatistics()}).
+     *
+     * @return The number of tasks that have been run.
+     */
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * Returns the average time (in milliseconds) that the tasks which have been run spent waiting in the queue.
+     *
+     * @return The average wait time, or 0 if no tasks have been run.
+     */
+    public double getAverageWaitTime() {
+        return executedCount > 0 ? totalWaitTime / executedCount : 0;
+    }
+
+    /**
+     * Returns the longest time (in milliseconds) that any of the tasks which have been run spent waiting in the queue.
+     *
+     * @return The maximum wait time, or 0 if no tasks have been run.
+     */
+    public double getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Reset the statistics reported by {@link #getExecutedCount()}, {@link #getAverageWaitTime()} and
+     * {@link #getMaxWaitTime()} back to zero.
+     *
+     * @return A reference to this {@link RenderScheduler} instance for convenient method chaining.
+     */
+    public RenderScheduler resetStatistics() {
+        executedCount = 0;
+        totalWaitTime = 0;
+        maxWaitTime = 0;
+        return this;
+    }
+
+    // Purposefully restricted to package scope, as the charts queue their own work
+    void schedule(BaseChart<?> chart, Scheduler.ScheduledCommand command) {
+        final Task task = new Task(chart, command, Duration.currentTimeMillis());
+        task.priority = getPriority(chart, task.queuedTime);
+        queue.add(task);
+        if (!running) {
+            running = true;
+            frameStartTime = -1;
+            Scheduler.get().scheduleIncremental(runner);
+        }
+    }
+
+    // Purposefully restricted to package scope, for dropping all of the work of a chart that's been detached or hibernated
+    void cancel(BaseChart<?> chart) {
+        for (int i = queue.size() - 1; i >= 0; i--) {
+            final Task task = queue.get(i);
+            if (task.chart == chart) {
+                queue.remove(i);
+            }
+        }
+    }
+
+    // Runs a single task each time GWT calls the incremental command, so that the budget is checked between tasks
+    private boolean runNextTask() {
+        if (queue.isEmpty()) {
+            running = false;
+            return false;
+        }
+
+        final double now = Duration.currentTimeMillis();
+        if (frameStartTime < 0) {
+            frameStartTime = now;
+            for (Task task : queue) {
+                task.priority = getPriority(task.chart, now);
+            }
+        } else if (now - frameStartTime >= frameBudget) {
+            // Out of time for this frame, so pick up where we left off on the next one
+            frameStartTime = -1;
+            AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+                public void execute(double timestamp) {
+                    Scheduler.get().scheduleIncremental(runner);
+                }
+            });
+            return false;
+        }
+
+        final Task task = queue.remove(nextTaskIndex());
+        final double waitTime = now - task.queuedTime;
+        executedCount++;
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
+        try {
+            task.command.execute();
+        } catch (RuntimeException e) {
+            // GWT drops a repeating command that throws, so carry on with the rest of the queue in a new one
+            running = false;
+            if (!queue.isEmpty()) {
+                running = true;
+                frameStartTime = -1;
+                Scheduler.get().scheduleIncremental(runner);
+            }
+            throw e;
+        }
+        return true;
+    }
+
+    // The first of the queued tasks with the highest priority
+    private int nextTaskIndex() {
+        int next = 0;
+        for (int i = 1, size = queue.size(); i < size; i++) {
+            if (queue.get(i).priority > queue.get(next).priority) {
+                next = i;
+            }
+        }
+        return next;
+    }
+
+    // Charts that were interacted with recently come first, then the ones that are visible, and then the rest
+    private static int getPriority(BaseChart<?> chart, double now) {
+        if (now - chart.getLastInteractionTime() < INTERACTION_PRIORITY_TIME) {
+            return 2;
+        }
+        return chart.isInViewport() ? 1 : 0;
+    }
+
+}
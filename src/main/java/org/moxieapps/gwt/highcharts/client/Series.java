@@ -17,13 +17,17 @@
 package org.moxieapps.gwt.highcharts.client;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 
 import org.moxieapps.gwt.highcharts.client.plotOptions.PlotOptions;
 
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.core.client.JsArrayUtils;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONNull;
@@ -206,6 +210,61 @@ public class Series extends Configurable<Series> {
             return optionName;
         }
 
+        /**
+         * Returns the shape shared by all of the points of a series of this type, or null if the shape depends
+         * on the data the series was given (e.g. line series can hold either Y or X/Y points).
+         */
+        // Purposefully set to package scope
+        Point.Type getPointType() {
+            switch (this) {
+                case AREA_RANGE:
+                case AREA_SPLINE_RANGE:
+                case COLUMN_RANGE:
+                case ERRORBAR:
+                case BOXPLOT:
+                    return Point.Type.X_LOW_HIGH;
+                case OHLC:
+                case CANDLESTICK:
+                    return Point.Type.X_OPEN_HIGH_LOW_CLOSE;
+                default:
+                    return null;
+            }
+        }
+
+        // Purposefully set to package scope
+        static Type fromOptionName(String optionName) {
+            if (optionName != null) {
+                for (Type type : values()) {
+                    if (type.optionName.equals(optionName)) {
+                        return type;
+                    }
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * An enumeration of the algorithms that can be used to downsample a series which contains more points
+     * than can be meaningfully displayed, which can be passed to the {@link Series#setDownsampling(Downsampling)} method.
+     *
+     * @since 1.7.0
+     */
+    public enum Downsampling {
+
+        /**
+         * Largest-Triangle-Three-Buckets, which keeps roughly one point per pixel of the plot area, picking the
+         * points that best preserve the visual shape of the series.  A good default for smooth data.
+         */
+        LTTB,
+
+        /**
+         * Keeps the first, last, minimum, and maximum point within each pixel column of the plot area, which
+         * guarantees that no spikes are lost.  A better choice for noisy or spiky data.
+         */
+        M4
+
     }
 
     // Purposefully set to package scope
@@ -675,6 +734,14 @@ public class Series extends Configurable<Series> {
      */
     public Series addPoint(Point point, boolean redraw, boolean shift, Animation animation) {
 
+        // Once points are added one by one we no longer have the complete data set to downsample from
+        this.discardFullResolutionData();
+
+        // When streaming the window takes care of the shifting and redrawing on its own
+        if (streamingWindow != null) {
+            return this.addStreamingPoint(point != null ? point.getX() : null, point != null ? point.getY() : null);
+        }
+
         // If we haven't been rendered, then just store the point in ourselves for now. Or,
         // if persistence is enabled than we need to store the point locally as well (so we have it if
         // the chart is dynamically moved to another panel).
@@ -683,11 +750,11 @@ public class Series extends Configurable<Series> {
             // Need to manually shift the item off the list if we haven't been rendered yet (after
             // we're rendered Highcharts handles the shift on its own)
             if (shift && points.size() > 0) {
-                points.remove(0);
+                points.removeFirst(1);
             }
 
             // If we haven't been rendered, then just store the point in ourselves for now.
-            points.add(point);
+            this.storePoint(point);
 
         }
 
@@ -698,20 +765,20 @@ public class Series extends Configurable<Series> {
                 if (animation == null || animation.getOptions() == null) {
                     final boolean animationFlag = animation != null;
                     if (point == null || (point.isSingleValue() && point.getY() == null)) {
-                        nativeAddPoint(nativeSeries, null, redraw, shift, animationFlag);
+                        nativeAddPoint(nativeSeries, null, chart.requestRedraw(redraw), shift, animationFlag);
                     } else if (point.isSingleValue() && !chart.isPersistent() && !point.hasNativeProperties()) {
-                        nativeAddPoint(nativeSeries, point.getY().doubleValue(), redraw, shift, animationFlag);
+                        nativeAddPoint(nativeSeries, point.getY().doubleValue(), chart.requestRedraw(redraw), shift, animationFlag);
                     } else {
-                        nativeAddPoint(nativeSeries, convertPointToJavaScriptObject(point), redraw, shift, animationFlag);
+                        nativeAddPoint(nativeSeries, convertPointToJavaScriptObject(point), chart.requestRedraw(redraw), shift, animationFlag);
                     }
                 } else {
                     final JavaScriptObject animationOptions = animation.getOptions().getJavaScriptObject();
                     if (point == null || (point.isSingleValue() && point.getY() == null)) {
-                        nativeAddPoint(nativeSeries, null, redraw, shift, animationOptions);
+                        nativeAddPoint(nativeSeries, null, chart.requestRedraw(redraw), shift, animationOptions);
                     } else if (point.isSingleValue() && !chart.isPersistent() && !point.hasNativeProperties()) {
-                        nativeAddPoint(nativeSeries, point.getY().doubleValue(), redraw, shift, animationOptions);
+                        nativeAddPoint(nativeSeries, point.getY().doubleValue(), chart.requestRedraw(redraw), shift, animationOptions);
                     } else {
-                        nativeAddPoint(nativeSeries, convertPointToJavaScriptObject(point), redraw, shift, animationOptions);
+                        nativeAddPoint(nativeSeries, convertPointToJavaScriptObject(point), chart.requestRedraw(redraw), shift, animationOptions);
                     }
                 }
             }
@@ -731,6 +798,137 @@ public class Series extends Configurable<Series> {
         return options.getJavaScriptObject();
     }
 
+    /**
+     * Add a batch of points to the series from parallel primitive arrays of X and Y values, redrawing
+     * the chart only once after all of the points have been added.  After the chart has been rendered
+     * the whole batch is handed to the live Highcharts series in a single call, which makes this
+     * the preferred way of appending many points at once (e.g. for live charts monitoring a value over
+     * time).  Use <code>Double.NaN</code> for any value that should be treated as null.
+     *
+     * @param xValues   The array of X values of the points to add to the series.
+     * @param yValues   The array of Y values of the points to add to the series (must be the same length as the X values)
+     * @param shift     When shift is true, one point is shifted off the start of the series for each point
+     *                  that is appended to the end.
+     * @param animation The custom animation to use when redrawing the chart, or null to disable the animation.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series addPoints(double[] xValues, double[] yValues, boolean shift, Animation animation) {
+        return this.addPoints(xValues, yValues, true, shift, animation);
+    }
+
+    /**
+     * Add a batch of points to the series from parallel primitive arrays of X and Y values, controlling
+     * whether the chart is redrawn once the points have been added.  Use <code>Double.NaN</code> for any
+     * value that should be treated as null.
+     *
+     * @param xValues   The array of X values of the points to add to the series.
+     * @param yValues   The array of Y values of the points to add to the series (must be the same length as the X values)
+     * @param redraw    Whether to redraw the chart after the points are added. If doing more operations
+     *                  on the chart, it is a good idea to set redraw to false and then call
+     *                  {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @param shift     When shift is true, one point is shifted off the start of the series for each point
+     *                  that is appended to the end.
+     * @param animation The custom animation to use when redrawing the chart, or null to disable the animation.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series addPoints(double[] xValues, double[] yValues, boolean redraw, boolean shift, Animation animation) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("The X and Y value arrays must be the same length");
+        }
+        this.discardFullResolutionData();
+        if (streamingWindow != null) {
+            for (int i = 0; i < xValues.length; i++) {
+                streamingWindow.add(xValues[i], yValues[i]);
+            }
+            return this.scheduleStreamingFlush();
+        }
+        if (!isRendered() || chart.isPersistent()) {
+            final Point[] newPoints = new Point[xValues.length];
+            for (int i = 0; i < newPoints.length; i++) {
+                newPoints[i] = new Point(convertDoubleToNumber(xValues[i]), convertDoubleToNumber(yValues[i]));
+            }
+            return this.addPoints(newPoints, redraw, shift, animation);
+        }
+        final JavaScriptObject nativeSeries = chart.get(this.id);
+        if (nativeSeries != null) {
+            nativeAddPoints(nativeSeries, convertColumnsToNativeData(xValues, yValues), chart.requestRedraw(redraw), shift,
+                animation != null, animation != null && animation.getOptions() != null ? animation.getOptions().getJavaScriptObject() : null);
+        }
+        return this;
+    }
+
+    /**
+     * Add a batch of points to the series, redrawing the chart only once after all of the points
+     * have been added.  After the chart has been rendered the whole batch is handed to the live Highcharts
+     * series in a single call.
+     *
+     * @param points    The points to add to the series (which, in turn, can have their own configuration options).
+     * @param shift     When shift is true, one point is shifted off the start of the series for each point
+     *                  that is appended to the end.
+     * @param animation The custom animation to use when redrawing the chart, or null to disable the animation.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series addPoints(Point[] points, boolean shift, Animation animation) {
+        return this.addPoints(points, true, shift, animation);
+    }
+
+    /**
+     * Add a batch of points to the series, controlling whether the chart is redrawn once the points
+     * have been added.
+     *
+     * @param points    The points to add to the series (which, in turn, can have their own configuration options).
+     * @param redraw    Whether to redraw the chart after the points are added. If doing more operations
+     *                  on the chart, it is a good idea to set redraw to false and then call
+     *                  {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @param shift     When shift is true, one point is shifted off the start of the series for each point
+     *                  that is appended to the end.
+     * @param animation The custom animation to use when redrawing the chart, or null to disable the animation.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series addPoints(Point[] points, boolean redraw, boolean shift, Animation animation) {
+        if (points.length == 0) {
+            return this;
+        }
+        this.discardFullResolutionData();
+        if (streamingWindow != null) {
+            for (Point point : points) {
+                this.addStreamingPoint(point != null ? point.getX() : null, point != null ? point.getY() : null);
+            }
+            return this;
+        }
+
+        // Same as the single point version, we need to hold on to the points ourselves if we haven't been
+        // rendered yet or if persistence is enabled
+        if (!isRendered() || chart.isPersistent()) {
+            final int retainedSize = Math.max(this.points.size(), 1);
+            this.points.ensureCapacity(this.points.size() + points.length);
+            for (Point point : points) {
+                this.storePoint(point);
+            }
+            if (shift && this.points.size() > retainedSize) {
+                // Apply all of the shifts at once instead of removing from the front of the list one point at a time
+                this.points.removeFirst(this.points.size() - retainedSize);
+            }
+        }
+
+        if (isRendered()) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries != null) {
+                JSONArray jsonArray = new JSONArray();
+                for (int i = 0, pointsLength = points.length; i < pointsLength; i++) {
+                    jsonArray.set(i, chart.convertPointToJSON(points[i]));
+                }
+                nativeAddPoints(nativeSeries, jsonArray.getJavaScriptObject(), chart.requestRedraw(redraw), shift,
+                    animation != null, animation != null && animation.getOptions() != null ? animation.getOptions().getJavaScriptObject() : null);
+            }
+        }
+        return this;
+    }
+
     /**
      * Apply a new set of data (Y values only) to the series and automatically redraw it.  If you need
      * more control than just simply setting the y values of each data point, then use the
@@ -755,13 +953,13 @@ public class Series extends Configurable<Series> {
      * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
      */
     public Series setPoints(Number[] yValues, boolean redraw) {
-        this.points.clear();
+        this.clearPoints();
 
         // If persistence is enabled than we need to store the point locally as well (so we have it if
         // the chart is dynamically moved to another panel).
         if (!isRendered() || chart.isPersistent()) {
             for (Number yValue : yValues) {
-                this.addPoint(yValue);
+                this.points.add(new Point(yValue));
             }
         }
 
@@ -776,7 +974,7 @@ public class Series extends Configurable<Series> {
                         jsonArray.set(i, JSONNull.getInstance());
                     }
                 }
-                nativeSetData(nativeSeries, jsonArray.getJavaScriptObject(), redraw);
+                nativeSetData(nativeSeries, jsonArray.getJavaScriptObject(), chart.requestRedraw(redraw));
             }
         }
 
@@ -823,7 +1021,7 @@ public class Series extends Configurable<Series> {
      * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
      */
     public Series setPoints(Number[][] values, boolean redraw) {
-        this.points.clear();
+        this.clearPoints();
 
         // If persistence is enabled than we need to store the point locally as well (so we have it if
         // the chart is dynamically moved to another panel).
@@ -831,12 +1029,12 @@ public class Series extends Configurable<Series> {
             for (Number[] xyValue : values) {
                 if (xyValue.length == 5) {
                     // For OHLC charts
-                    this.addPoint(xyValue[0], xyValue[1], xyValue[2], xyValue[3], xyValue[4]);
+                    this.points.add(new Point(xyValue[0], xyValue[1], xyValue[2], xyValue[3], xyValue[4]));
                 } else if (xyValue.length == 3) {
                     // For area range charts
-                    this.addPoint(xyValue[0], xyValue[1], xyValue[2]);
+                    this.points.add(new Point(xyValue[0], xyValue[1], xyValue[2]));
                 } else {
-                    this.addPoint(xyValue[0], xyValue[1]);
+                    this.points.add(new Point(xyValue[0], xyValue[1]));
                 }
             }
         }
@@ -876,13 +1074,224 @@ public class Series extends Configurable<Series> {
                     }
                     jsonArray.set(i, jsonValue);
                 }
-                nativeSetData(nativeSeries, jsonArray.getJavaScriptObject(), redraw);
+                nativeSetData(nativeSeries, jsonArray.getJavaScriptObject(), chart.requestRedraw(redraw));
             }
         }
 
         return this;
     }
 
+    /**
+     * Apply a new set of data (Y values only) to the series from a primitive array and automatically
+     * redraw it.  This is the fastest way to replace the data of a large series, as the values are
+     * handed to Highcharts in a single pass without creating any intermediate wrapper objects.
+     * Use <code>Double.NaN</code> for any value that should be treated as null.
+     *
+     * @param yValues The array of Y values to set on the data series (replacing any data already in place)
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] yValues) {
+        return this.setPoints(yValues, true);
+    }
+
+    /**
+     * Apply a new set of data (Y values only) to the series from a primitive array and optionally
+     * redraw it.  Use <code>Double.NaN</code> for any value that should be treated as null.
+     *
+     * @param yValues The array of Y values to set on the data series (replacing any data already in place)
+     * @param redraw  Whether to redraw the chart after the series is altered. If doing more operations
+     *                on the chart, it is a good idea to set redraw to false and then call
+     *                {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] yValues, boolean redraw) {
+        return this.setPointColumns(redraw, yValues);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X and Y values and
+     * automatically redraw it.  Use <code>Double.NaN</code> for any value that should be treated as null.
+     *
+     * @param xValues The array of X values to set on the data series
+     * @param yValues The array of Y values to set on the data series (must be the same length as the X values)
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] yValues) {
+        return this.setPoints(xValues, yValues, true);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X and Y values and
+     * optionally redraw it.  Use <code>Double.NaN</code> for any value that should be treated as null.
+     * If the series has been set to downsample via {@link #setDownsampling(Downsampling)}, the arrays
+     * are retained as is (so they should not be modified afterwards) and only a representative subset
+     * of the points is handed to the chart.
+     *
+     * @param xValues The array of X values to set on the data series
+     * @param yValues The array of Y values to set on the data series (must be the same length as the X values)
+     * @param redraw  Whether to redraw the chart after the series is altered. If doing more operations
+     *                on the chart, it is a good idea to set redraw to false and then call
+     *                {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] yValues, boolean redraw) {
+        if (downsampling != null) {
+            return this.setDownsampledPoints(xValues, yValues, redraw);
+        }
+        return this.setPointColumns(redraw, xValues, yValues);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X, Low, and High values (for
+     * area range charts) and automatically redraw it.  Use <code>Double.NaN</code> for any value that
+     * should be treated as null.
+     *
+     * @param xValues    The array of X values to set on the data series
+     * @param lowValues  The array of "low" Y values to set on the data series
+     * @param highValues The array of "high" Y values to set on the data series
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] lowValues, double[] highValues) {
+        return this.setPoints(xValues, lowValues, highValues, true);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X, Low, and High values (for
+     * area range charts) and optionally redraw it.  Use <code>Double.NaN</code> for any value that
+     * should be treated as null.
+     *
+     * @param xValues    The array of X values to set on the data series
+     * @param lowValues  The array of "low" Y values to set on the data series
+     * @param highValues The array of "high" Y values to set on the data series
+     * @param redraw     Whether to redraw the chart after the series is altered. If doing more operations
+     *                   on the chart, it is a good idea to set redraw to false and then call
+     *                   {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] lowValues, double[] highValues, boolean redraw) {
+        return this.setPointColumns(redraw, xValues, lowValues, highValues);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X, Open, High, Low, and Close
+     * values (for OHLC charts) and automatically redraw it.  Use <code>Double.NaN</code> for any value that
+     * should be treated as null.
+     *
+     * @param xValues     The array of X values to set on the data series
+     * @param openValues  The array of "open" Y values to set on the data series
+     * @param highValues  The array of "high" Y values to set on the data series
+     * @param lowValues   The array of "low" Y values to set on the data series
+     * @param closeValues The array of "close" Y values to set on the data series
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] openValues, double[] highValues, double[] lowValues, double[] closeValues) {
+        return this.setPoints(xValues, openValues, highValues, lowValues, closeValues, true);
+    }
+
+    /**
+     * Apply a new set of data to the series from parallel primitive arrays of X, Open, High, Low, and Close
+     * values (for OHLC charts) and optionally redraw it.  Use <code>Double.NaN</code> for any value that
+     * should be treated as null.
+     *
+     * @param xValues     The array of X values to set on the data series
+     * @param openValues  The array of "open" Y values to set on the data series
+     * @param highValues  The array of "high" Y values to set on the data series
+     * @param lowValues   The array of "low" Y values to set on the data series
+     * @param closeValues The array of "close" Y values to set on the data series
+     * @param redraw      Whether to redraw the chart after the series is altered. If doing more operations
+     *                    on the chart, it is a good idea to set redraw to false and then call
+     *                    {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setPoints(double[] xValues, double[] openValues, double[] highValues, double[] lowValues, double[] closeValues, boolean redraw) {
+        return this.setPointColumns(redraw, xValues, openValues, highValues, lowValues, closeValues);
+    }
+
+    // Shared implementation of the primitive "setPoints()" variants, where each column is one of the point values
+    // in the order Highcharts expects them within a data array (e.g. [x, y] or [x, open, high, low, close])
+    private Series setPointColumns(boolean redraw, double[]... columns) {
+        final JavaScriptObject data = storePointColumns(columns);
+        if (data != null) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries != null) {
+                nativeSetData(nativeSeries, data, chart.requestRedraw(redraw));
+            }
+        }
+        return this;
+    }
+
+    // Purposefully set to package scope, so that a ChartTransaction can share it.  Applies the new points to the
+    // Java side of the series, returning the data to hand to Highcharts (or null if the series isn't rendered yet).
+    JavaScriptObject storePointColumns(double[]... columns) {
+        final int pointsLength = columns[0].length;
+        for (double[] column : columns) {
+            if (column.length != pointsLength) {
+                throw new IllegalArgumentException("All of the value arrays must be the same length");
+            }
+        }
+
+        this.clearPoints();
+
+        // If persistence is enabled than we need to store the point locally as well (so we have it if
+        // the chart is dynamically moved to another panel).
+        if (!isRendered() || chart.isPersistent()) {
+            this.points.addColumns(columns);
+        }
+
+        if (!isRendered()) {
+            return null;
+        }
+        if (chart.isPersistent()) {
+            // Persistent charts need the point ids in the DOM, so we have to go the long way around
+            JSONArray jsonArray = new JSONArray();
+            for (int i = 0, size = points.size(); i < size; i++) {
+                jsonArray.set(i, convertStoredPointToJSON(i));
+            }
+            return jsonArray.getJavaScriptObject();
+        }
+        return convertColumnsToNativeData(columns);
+    }
+
+    // Purposefully set to package scope
+    static Point convertColumnsToPoint(double[][] columns, int index) {
+        switch (columns.length) {
+            case 1:
+                return new Point(convertDoubleToNumber(columns[0][index]));
+            case 2:
+                return new Point(convertDoubleToNumber(columns[0][index]), convertDoubleToNumber(columns[1][index]));
+            case 3:
+                return new Point(convertDoubleToNumber(columns[0][index]), convertDoubleToNumber(columns[1][index]),
+                    convertDoubleToNumber(columns[2][index]));
+            default:
+                return new Point(convertDoubleToNumber(columns[0][index]), convertDoubleToNumber(columns[1][index]),
+                    convertDoubleToNumber(columns[2][index]), convertDoubleToNumber(columns[3][index]),
+                    convertDoubleToNumber(columns[4][index]));
+        }
+    }
+
+    // Hands the primitive columns over to JS without copying them (in compiled mode), and then builds
+    // the Highcharts data array from them in a single pass
+    private static JavaScriptObject convertColumnsToNativeData(double[]... columns) {
+        final JsArray<JsArrayNumber> nativeColumns = JavaScriptObject.createArray().cast();
+        for (double[] column : columns) {
+            nativeColumns.push(JsArrayUtils.readOnlyJsArray(column));
+        }
+        return nativeConvertColumnsToData(nativeColumns);
+    }
+
+    // NaN is used to represent null values within the primitive arrays
+    private static Number convertDoubleToNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
     /**
      * Apply a new set of data to the series and automatically redraw it.
      *
@@ -903,28 +1312,124 @@ public class Series extends Configurable<Series> {
      * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
      */
     public Series setPoints(Point[] points, boolean redraw) {
-        this.points.clear();
+        final JavaScriptObject data = storePoints(points);
+        if (data != null) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries != null) {
+                nativeSetData(nativeSeries, data, chart.requestRedraw(redraw));
+            }
+        }
+        return this;
+    }
+
+    // Purposefully set to package scope, so that a ChartTransaction can share it.  Applies the new points to the
+    // Java side of the series, returning the data to hand to Highcharts (or null if the series isn't rendered yet).
+    JavaScriptObject storePoints(Point[] points) {
+        this.clearPoints();
 
         // If persistence is enabled than we need to store the point locally as well (so we have it if
         // the chart is dynamically moved to another panel).
         if (!isRendered() || chart.isPersistent()) {
-            Collections.addAll(this.points, points);
+            this.points.ensureCapacity(points.length);
+            for (Point point : points) {
+                this.storePoint(point);
+            }
         }
 
-        if (isRendered()) {
-            final JavaScriptObject nativeSeries = chart.get(this.id);
-            if (nativeSeries != null) {
-                JSONArray jsonArray = new JSONArray();
-                for (int i = 0, pointsLength = points.length; i < pointsLength; i++) {
-                    jsonArray.set(i, chart.convertPointToJSON(points[i]));
-                }
-                nativeSetData(nativeSeries, jsonArray.getJavaScriptObject(), redraw);
+        if (!isRendered()) {
+            return null;
+        }
+        JSONArray jsonArray = new JSONArray();
+        for (int i = 0, pointsLength = points.length; i < pointsLength; i++) {
+            jsonArray.set(i, chart.convertPointToJSON(points[i]));
+        }
+        return jsonArray.getJavaScriptObject();
+    }
+
+    /**
+     * Apply a new set of data to the series like {@link #setPoints(Point[])}, but instead of replacing all
+     * of the points of the live chart only the differences are applied: points whose X value matches a
+     * current point are updated (and only if their values or options actually changed), points with new X values
+     * are added, and current points with X values that no longer appear are removed, all followed by a single
+     * redraw.  This is considerably cheaper than replacing the data when a refresh only changes a few points,
+     * and lets Highcharts animate just the points that moved.
+     *
+     * @param points The array of points to set on the data series (replacing any data already in place)
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series reconcilePoints(Point[] points) {
+        return this.reconcilePoints(points, false, true, null);
+    }
+
+    /**
+     * Apply a new set of data to the series by only applying the differences to the live chart, as described
+     * in {@link #reconcilePoints(Point[])}, matching the new points to the current ones either by their X
+     * values or by their ids (as set via <code>point.setOption("id", "...")</code>).  Note that the
+     * points of a series have to stay sorted by X value, so any new points should come after the current ones.
+     *
+     * @param points    The array of points to set on the data series (replacing any data already in place)
+     * @param matchById Whether to match the new points to the current ones by id instead of by X value.
+     * @param redraw    Whether to redraw the chart after the series is altered. If doing more operations
+     *                  on the chart, it is a good idea to set redraw to false and then call
+     *                  {@link org.moxieapps.gwt.highcharts.client.Chart#redraw()} after.
+     * @param animation The custom animation to use when redrawing the chart, or null to disable the animation.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series reconcilePoints(Point[] points, boolean matchById, boolean redraw, Animation animation) {
+        if (!isRendered() || streamingWindow != null) {
+            // Nothing live to compare against (or a window that manages the live points on its own)
+            return this.setPoints(points, redraw);
+        }
+
+        this.clearPoints();
+        final JavaScriptObject nativeSeries = chart.get(this.id);
+        if (chart.isPersistent()) {
+            if (nativeSeries != null && !matchById) {
+                adoptMatchingPointIds(nativeSeries, points);
+            }
+            this.points.ensureCapacity(points.length);
+            for (Point point : points) {
+                this.storePoint(point);
             }
         }
 
+        if (nativeSeries != null) {
+            JSONArray jsonArray = new JSONArray();
+            for (int i = 0, pointsLength = points.length; i < pointsLength; i++) {
+                jsonArray.set(i, chart.convertPointToJSON(points[i]));
+            }
+            nativeReconcilePoints(nativeSeries, jsonArray.getJavaScriptObject(), matchById, chart.requestRedraw(redraw),
+                animation != null, animation != null && animation.getOptions() != null ? animation.getOptions().getJavaScriptObject() : null);
+        }
         return this;
     }
 
+    // Every point of a persistent chart carries an id, so a new point without an id of its own that matches a current point
+    // by X value takes over the id of that point, rather than being given a new id that would make the point look changed
+    private void adoptMatchingPointIds(JavaScriptObject nativeSeries, Point[] points) {
+        final JsArrayString nativeIds = nativeGetPointIds(nativeSeries);
+        final JsArrayNumber nativeXValues = nativeReadColumn(nativeSeries, "x");
+        final HashMap<Double, String> idsByX = new HashMap<Double, String>();
+        for (int i = 0, length = Math.min(nativeIds.length(), nativeXValues.length()); i < length; i++) {
+            if (nativeIds.get(i) != null && !idsByX.containsKey(nativeXValues.get(i))) {
+                idsByX.put(nativeXValues.get(i), nativeIds.get(i));
+            }
+        }
+        for (int i = 0; i < points.length; i++) {
+            final Point point = points[i];
+            if (point == null || point.getId() != null || (point.getOptions() != null && point.getOptions().get("id") != null)) {
+                continue;
+            }
+            final double x = point.getX() != null ? point.getX().doubleValue() : nativeGetImplicitX(nativeSeries, i);
+            final String id = idsByX.remove(x);
+            if (id != null) {
+                point.setId(id);
+            }
+        }
+    }
+
     /**
      * Retrieve the array of points that have been added to this series.  If this method is invoked
      * before the series is rendered to a chart, then it will simply return the points that have been
@@ -934,8 +1439,15 @@ public class Series extends Configurable<Series> {
      * @return The array of points, or an empty array (non null) if no points have been added to the series yet.
      */
     public Point[] getPoints() {
-        ArrayList<Point> convertedPoints = points;
-        if (isRendered() && !chart.isPersistent()) {
+        ArrayList<Point> convertedPoints;
+        if (hasFullResolutionData()) {
+            convertedPoints = new ArrayList<Point>(fullXValues.length);
+            for (int i = 0; i < fullXValues.length; i++) {
+                convertedPoints.add(new Point(convertDoubleToNumber(fullXValues[i]), convertDoubleToNumber(fullYValues[i])));
+            }
+        } else if (streamingWindow != null && (!isRendered() || chart.isPersistent())) {
+            convertedPoints = getStreamingPoints();
+        } else if (isRendered() && !chart.isPersistent()) {
             convertedPoints = new ArrayList<Point>();
             // After the series has been rendered, convert the live JS data series back into GWT objects
             final JavaScriptObject nativeSeries = chart.get(this.id);
@@ -946,10 +1458,112 @@ public class Series extends Configurable<Series> {
                     convertedPoints.add(new Point(nativePoint));
                 }
             }
+        } else {
+            convertedPoints = points.toList();
         }
         return convertedPoints.toArray(new Point[convertedPoints.size()]);
     }
 
+    // The values that can be read via "readColumn()", in the order they are passed to a PointVisitor
+    private static final String[] POINT_FIELDS = {"x", "y", "low", "high", "open", "close"};
+
+    /**
+     * Returns the number of points in the series, which is a cheap way to size the arrays passed
+     * to {@link #readColumn(String, double[])}.
+     *
+     * @return The number of points currently in the series.
+     * @since 1.7.0
+     */
+    public int getPointCount() {
+        if (hasFullResolutionData()) {
+            return fullXValues.length;
+        } else if (streamingWindow != null && (!isRendered() || chart.isPersistent())) {
+            trimPointsToStreamingWindow();
+            return points.size() + streamingWindow.size();
+        } else if (isRendered() && !chart.isPersistent()) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            return nativeSeries != null ? nativeGetPointCount(nativeSeries) : 0;
+        }
+        return points.size();
+    }
+
+    /**
+     * Copy one of the values of every point in the series into the given array, in the order of the points
+     * within the series.  Unlike {@link #getPoints()} no Point instance is created along the way, and after
+     * the chart has been rendered the values are pulled out of the live Highcharts series in a single native
+     * call, which makes this the preferred way to scan large series.  Any value that a point doesn't have
+     * (e.g. "open" on a line series) or which is null is written as <code>Double.NaN</code>.
+     *
+     * @param field The value to read, which must be one of "x", "y", "low", "high", "open" or "close".
+     * @param dest  The array to copy the values into.  If the array is shorter than the series, only
+     *              the values of the first points are copied.
+     * @return The number of points in the series (which may be larger than the number of values copied).
+     * @since 1.7.0
+     */
+    public int readColumn(String field, double[] dest) {
+        boolean knownField = false;
+        for (String pointField : POINT_FIELDS) {
+            knownField |= pointField.equals(field);
+        }
+        if (!knownField) {
+            throw new IllegalArgumentException("Unknown point field: " + field);
+        }
+
+        if (hasFullResolutionData()) {
+            final double[] values = "x".equals(field) ? fullXValues : "y".equals(field) ? fullYValues : null;
+            final int count = Math.min(fullXValues.length, dest.length);
+            for (int i = 0; i < count; i++) {
+                dest[i] = values != null ? values[i] : Double.NaN;
+            }
+            return fullXValues.length;
+        } else if (streamingWindow != null && (!isRendered() || chart.isPersistent())) {
+            trimPointsToStreamingWindow();
+            final int storedCount = points.readColumn(field, dest);
+            final boolean x = "x".equals(field);
+            final boolean y = "y".equals(field);
+            for (int i = 0, size = streamingWindow.size(); i < size && storedCount + i < dest.length; i++) {
+                dest[storedCount + i] = x ? streamingWindow.getX(i) : y ? streamingWindow.getY(i) : Double.NaN;
+            }
+            return storedCount + streamingWindow.size();
+        } else if (isRendered() && !chart.isPersistent()) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries == null) {
+                return 0;
+            }
+            final JsArrayNumber values = nativeReadColumn(nativeSeries, field);
+            final int length = values.length();
+            for (int i = 0, count = Math.min(length, dest.length); i < count; i++) {
+                dest[i] = values.get(i);
+            }
+            return length;
+        }
+        return points.readColumn(field, dest);
+    }
+
+    /**
+     * Call the given visitor with the values of every point in the series, in the order of the points
+     * within the series.  Unlike {@link #getPoints()} no Point instance is created along the way, so this
+     * is the preferred way to compute statistics over large series.  After the chart has been rendered the
+     * values are pulled out of the live Highcharts series with one native call per value type (rather than
+     * several per point), see {@link #readColumn(String, double[])}.
+     *
+     * @param visitor The visitor to call once for each point in the series.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series forEachPoint(PointVisitor visitor) {
+        final int count = getPointCount();
+        final double[][] columns = new double[POINT_FIELDS.length][count];
+        for (int j = 0; j < POINT_FIELDS.length; j++) {
+            readColumn(POINT_FIELDS[j], columns[j]);
+        }
+        final double[] x = columns[0], y = columns[1], low = columns[2], high = columns[3], open = columns[4], close = columns[5];
+        for (int i = 0; i < count; i++) {
+            visitor.visit(i, x[i], y[i], low[i], high[i], open[i], close[i]);
+        }
+        return this;
+    }
+
     /**
      * Remove the point from the series, automatically redrawing the chart using the default
      * animation options. <p/>
@@ -1023,17 +1637,28 @@ public class Series extends Configurable<Series> {
         // Note that this logic is purposefully only functional for chart's that are using the "setPersistent()"
         // option.  Removing a point from a non-persistent chart can be achieved by simply using
         // the "Point.remove()" methods.
-        if (id != null && points != null) {
-            for (Iterator<Point> iterator = points.iterator(); iterator.hasNext(); ) {
-                Point existingPoint = iterator.next();
-                if (id.equals(existingPoint.getId())) {
-                    iterator.remove();
-                }
-            }
+        if (id != null) {
+            points.removeById(id);
         }
         return this;
     }
 
+    // Purposefully set to package scope.  Called by the chart once a dragged point has been dropped, so that
+    // the points a persistent chart holds on to are only brought up to date once per drag (instead of on
+    // every drag event).
+    void syncDroppedPoint(JavaScriptObject nativePoint) {
+        final String id = nativeGetPointId(nativePoint);
+        if (id == null) {
+            return;
+        }
+        for (String field : POINT_FIELDS) {
+            final double value = nativeGetPointValue(nativePoint, field);
+            if (!Double.isNaN(value)) {
+                points.setValue(id, field, value);
+            }
+        }
+    }
+
     /**
      * Remove this series from the chart it is a part of.
      *
@@ -1108,7 +1733,7 @@ public class Series extends Configurable<Series> {
         if (isRendered()) {
             final JavaScriptObject nativeSeries = chart.get(this.id);
             if (nativeSeries != null) {
-                nativeSetVisible(nativeSeries, visible, redraw);
+                nativeSetVisible(nativeSeries, visible, chart.requestRedraw(redraw));
             }
         }
         return this;
@@ -1202,16 +1827,446 @@ public class Series extends Configurable<Series> {
 	return this.setOption("draggableY", draggable);
     }
 
-    // Purposefully not using the generic "List" interface here in order optimize GWT performance.
-    private ArrayList<Point> points = new ArrayList<Point>();
+    // When non-null the series is in streaming mode, see "setStreamingWindow()"
+    private StreamingWindow streamingWindow;
+    private double[] streamingXBuffer;
+    private double[] streamingYBuffer;
+    private boolean streamingFlushScheduled = false;
+
+    /**
+     * Places the series in streaming mode, where the series acts as a sliding window over the most recent
+     * <code>capacity</code> points.  This is intended for live charts that receive points at a high rate.
+     * While in streaming mode, points added via any of the <code>addPoint()</code> or <code>addPoints()</code>
+     * methods are queued in a fixed size buffer and handed to the chart at most once per animation frame
+     * (with a single redraw), no matter how quickly they arrive.  Once the window is full, each new point
+     * shifts the oldest point off the start of the series, and if more points arrive within a single frame
+     * than the window can hold only the most recent ones are kept.
+     * <p/>
+     * Note that streaming mode only retains the X and Y values of the points that are added, so any
+     * other options set on those points are ignored.  The "redraw" and "shift" arguments passed to the
+     * <code>addPoint()</code> methods are ignored as well, as the window takes care of both.
+     *
+     * @param capacity The maximum number of points to show in the series, or zero to turn streaming mode back off.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setStreamingWindow(int capacity) {
+        if (streamingWindow != null) {
+            // Make sure nothing queued is lost, and then fold the window back into the regular list of points
+            flushStreamingWindow();
+            if (!isRendered() || chart.isPersistent()) {
+                final ArrayList<Point> streamingPoints = getStreamingPoints();
+                points.clear();
+                points.ensureCapacity(streamingPoints.size());
+                for (Point point : streamingPoints) {
+                    this.storePoint(point);
+                }
+            }
+            streamingWindow = null;
+            streamingXBuffer = null;
+            streamingYBuffer = null;
+        }
+        if (capacity > 0) {
+            streamingWindow = new StreamingWindow(capacity);
+            streamingXBuffer = new double[capacity];
+            streamingYBuffer = new double[capacity];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the capacity of the window the series was placed into via {@link #setStreamingWindow(int)},
+     * or zero if the series is not in streaming mode.
+     *
+     * @return The maximum number of points shown by the series while streaming, or zero.
+     * @since 1.7.0
+     */
+    public int getStreamingWindow() {
+        return streamingWindow != null ? streamingWindow.getCapacity() : 0;
+    }
+
+    private Series addStreamingPoint(Number x, Number y) {
+        streamingWindow.add(x != null ? x.doubleValue() : Double.NaN, y != null ? y.doubleValue() : Double.NaN);
+        return this.scheduleStreamingFlush();
+    }
+
+    private Series scheduleStreamingFlush() {
+        if (isRendered() && !streamingFlushScheduled) {
+            streamingFlushScheduled = true;
+            final RenderScheduler renderScheduler = chart.getRenderScheduler();
+            if (renderScheduler != null) {
+                // Let the chart's scheduler decide when there's time for the flush
+                renderScheduler.schedule(chart, new Scheduler.ScheduledCommand() {
+                    public void execute() {
+                        streamingFlushScheduled = false;
+                        flushStreamingWindow();
+                    }
+                });
+            } else {
+                AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+                    public void execute(double timestamp) {
+                        streamingFlushScheduled = false;
+                        flushStreamingWindow();
+                    }
+                });
+            }
+        }
+        return this;
+    }
+
+    // Purposefully package scope, as the chart drops a scheduled flush along with the rest of its scheduled work
+    // when it's detached or hibernated
+    void cancelStreamingFlush() {
+        streamingFlushScheduled = false;
+    }
+
+    // Purposefully package scope, so that the chart can schedule a dropped flush again once it's attached again
+    void resumeStreamingFlush() {
+        if (streamingWindow != null && streamingWindow.getPendingSize() > 0) {
+            scheduleStreamingFlush();
+        }
+    }
+
+    private void flushStreamingWindow() {
+        if (streamingWindow == null || streamingWindow.getPendingSize() == 0 || !isRendered()) {
+            return;
+        }
+        final JavaScriptObject nativeSeries = chart.get(this.id);
+        if (nativeSeries == null) {
+            return;
+        }
+        final int count = streamingWindow.drainPending(streamingXBuffer, streamingYBuffer);
+        if (chart.isPersistent()) {
+            trimPointsToStreamingWindow();
+        }
+        nativeAddStreamingPoints(nativeSeries, JsArrayUtils.readOnlyJsArray(streamingXBuffer), JsArrayUtils.readOnlyJsArray(streamingYBuffer),
+            count, streamingWindow.getCapacity(), chart.requestRedraw(true));
+    }
+
+    // Any points set before the series started streaming sit in front of the window, and are shifted off
+    // in one step (instead of one at a time) as the window fills up
+    private void trimPointsToStreamingWindow() {
+        final int excess = points.size() + streamingWindow.size() - streamingWindow.getCapacity();
+        if (excess > 0 && points.size() > 0) {
+            points.removeFirst(excess);
+        }
+    }
+
+    private ArrayList<Point> getStreamingPoints() {
+        trimPointsToStreamingWindow();
+        final ArrayList<Point> streamingPoints = points.toList();
+        for (int i = 0, size = streamingWindow.size(); i < size; i++) {
+            final double x = streamingWindow.getX(i);
+            if (Double.isNaN(x)) {
+                streamingPoints.add(new Point(convertDoubleToNumber(streamingWindow.getY(i))));
+            } else {
+                streamingPoints.add(new Point(x, convertDoubleToNumber(streamingWindow.getY(i))));
+            }
+        }
+        return streamingPoints;
+    }
+
+    // When non-null the series is downsampled to the plot width, see "setDownsampling()"
+    private Downsampling downsampling;
+    private int downsamplingMaxPoints = 0;
+
+    // The complete data set of a downsampled series, of which only a subset is handed to Highcharts
+    private double[] fullXValues;
+    private double[] fullYValues;
+
+    /**
+     * Turns on downsampling for the series, so that when a large data set is applied via the
+     * {@link #setPoints(double[], double[])} method only a visually representative subset of the points
+     * (roughly one per pixel of the plot width) is handed to Highcharts.  The complete data set is retained
+     * on the Java side, and whenever the extremes of the X axis change (e.g. when the user zooms in) the
+     * points are resampled from the visible range, so no detail is lost as the user drills into the data.
+     * <p/>
+     * Note that downsampling requires the X values to be sorted in ascending order, and that the complete
+     * data set is discarded (leaving the series with whatever points are currently shown) if points are
+     * later added to the series one at a time via the <code>addPoint()</code> or <code>addPoints()</code> methods.
+     *
+     * @param downsampling The algorithm to use to pick the points to show, or null to turn downsampling off.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setDownsampling(Downsampling downsampling) {
+        return this.setDownsampling(downsampling, 0);
+    }
+
+    /**
+     * Turns on downsampling for the series, as described in {@link #setDownsampling(Downsampling)}, but
+     * with an explicit limit on the number of points to show instead of deriving it from the plot width.
+     *
+     * @param downsampling The algorithm to use to pick the points to show, or null to turn downsampling off.
+     * @param maxPoints    The number of points to aim for, or zero to derive it from the plot width.
+     * @return A reference to this {@link org.moxieapps.gwt.highcharts.client.Series} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public Series setDownsampling(Downsampling downsampling, int maxPoints) {
+        this.downsampling = downsampling;
+        this.downsamplingMaxPoints = Math.max(maxPoints, 0);
+        if (downsampling == null && hasFullResolutionData()) {
+            // Hand the complete data set back to the regular point handling
+            final double[] xValues = fullXValues;
+            final double[] yValues = fullYValues;
+            this.setPointColumns(isRendered(), xValues, yValues);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the algorithm set via {@link #setDownsampling(Downsampling)}, or null if the series is not
+     * being downsampled.
+     *
+     * @return The downsampling algorithm in use by the series, or null.
+     * @since 1.7.0
+     */
+    public Downsampling getDownsampling() {
+        return downsampling;
+    }
+
+    private Series setDownsampledPoints(double[] xValues, double[] yValues, boolean redraw) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("All of the value arrays must be the same length");
+        }
+        this.clearPoints();
+        this.fullXValues = xValues;
+        this.fullYValues = yValues;
+        if (isRendered()) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries != null) {
+                // Keep showing whatever range the user has zoomed into
+                nativeSetData(nativeSeries, createDownsampledData(nativeGetXAxisUserExtreme(nativeSeries, false),
+                    nativeGetXAxisUserExtreme(nativeSeries, true)), chart.requestRedraw(redraw));
+            }
+        }
+        return this;
+    }
+
+    private void discardFullResolutionData() {
+        if (fullXValues == null) {
+            return;
+        }
+        // Whatever is currently shown becomes the data of the series
+        if (!isRendered() || chart.isPersistent()) {
+            final JsArray<JsArrayNumber> data = createDownsampledData(Double.NaN, Double.NaN).cast();
+            fullXValues = null;
+            fullYValues = null;
+            points.clear();
+            points.ensureCapacity(data.length());
+            for (int i = 0, size = data.length(); i < size; i++) {
+                final JsArrayNumber point = data.get(i);
+                points.add(new Point(point.get(0), convertDoubleToNumber(nativeGetNumberOrNaN(point, 1))));
+            }
+        } else {
+            fullXValues = null;
+            fullYValues = null;
+        }
+    }
+
+    // Purposefully set to package scope
+    boolean hasFullResolutionData() {
+        return fullXValues != null;
+    }
+
+    /**
+     * Picks the points to show from the complete data set, restricted to the given X range (plus one point
+     * beyond each end, so lines still run off the edges of the plot area).
+     *
+     * @param min The lowest X value to include, or NaN to start at the first point.
+     * @param max The highest X value to include, or NaN to end at the last point.
+     * @return A native Highcharts data array of [x, y] pairs.
+     */
+    // Purposefully set to package scope
+    JavaScriptObject createDownsampledData(double min, double max) {
+        final int length = fullXValues.length;
+        final int from = Double.isNaN(min) ? 0 : Math.max(Downsampler.lowerBound(fullXValues, min) - 1, 0);
+        final int to = Double.isNaN(max) ? length : Math.min(Downsampler.lowerBound(fullXValues, max) + 1, length);
+        if (from >= to) {
+            return convertColumnsToNativeData(new double[0], new double[0]);
+        }
+
+        final int target = getDownsamplingTarget();
+        final int[] indexes;
+        final int count;
+        if (downsampling == Downsampling.M4) {
+            indexes = new int[Math.min(to - from, Math.max(target, 1) * 4)];
+            count = Downsampler.m4(fullXValues, fullYValues, from, to, target, indexes);
+        } else {
+            indexes = new int[Math.min(to - from, Math.max(target, 3))];
+            count = Downsampler.lttb(fullXValues, fullYValues, from, to, target, indexes);
+        }
+
+        final double[] xValues = new double[count];
+        final double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = fullXValues[indexes[i]];
+            yValues[i] = fullYValues[indexes[i]];
+        }
+        return convertColumnsToNativeData(xValues, yValues);
+    }
+
+    /**
+     * Called by the chart whenever the extremes of the X axis this series belongs to change, so that
+     * the points shown are resampled from the newly visible range of the complete data set.
+     */
+    // Purposefully set to package scope
+    void resample(double min, double max) {
+        if (!hasFullResolutionData() || !isRendered()) {
+            return;
+        }
+        final JavaScriptObject nativeSeries = chart.get(this.id);
+        if (nativeSeries != null) {
+            nativeSetData(nativeSeries, createDownsampledData(min, max), false);
+        }
+    }
+
+    // Purposefully set to package scope
+    int getXAxisIndex() {
+        final JSONValue xAxis = getOptions() != null ? getOptions().get("xAxis") : null;
+        if (xAxis != null && xAxis.isNumber() != null) {
+            return (int) xAxis.isNumber().doubleValue();
+        }
+        return 0;
+    }
+
+    private int getDownsamplingTarget() {
+        if (downsamplingMaxPoints > 0) {
+            return downsamplingMaxPoints;
+        }
+        int width = 0;
+        if (isRendered()) {
+            final JavaScriptObject nativeSeries = chart.get(this.id);
+            if (nativeSeries != null) {
+                width = nativeGetPlotWidth(nativeSeries);
+            }
+        }
+        if (width <= 0) {
+            width = chart.getOffsetWidth();
+        }
+        return width > 0 ? width : DEFAULT_DOWNSAMPLING_TARGET;
+    }
+
+    // Used when the series is downsampled before the chart has been attached and sized
+    private static final int DEFAULT_DOWNSAMPLING_TARGET = 1000;
+
+    // The points held on to before the series is rendered (or all along for persistent charts), kept in
+    // primitive columns rather than as a list of Point instances in order to keep the footprint down
+    private final PointStore points = new PointStore();
+
+    // Persistent charts need each point to carry an id, which has to be assigned before the store lets go of the point
+    private void storePoint(Point point) {
+        if (point != null && chart.isPersistent()) {
+            chart.ensurePointId(point);
+        }
+        points.add(point);
+    }
+
+    // Converts the stored point at the given slot, remembering any id the chart assigns to it along the way
+    private JSONValue convertStoredPointToJSON(int index) {
+        final Point point = points.get(index);
+        final JSONValue json = chart.convertPointToJSON(point);
+        points.setId(index, point.getId());
+        return json;
+    }
+
+    // Purposefully set to package scope
+    void copyPointsToJSONArray(JSONArray jsonArray) {
+        // The data held on to as is while the chart was hibernated comes before any points added since
+        int offset = 0;
+        if (hibernatedData != null) {
+            final JSONArray hibernatedArray = new JSONArray(hibernatedData);
+            for (int size = hibernatedArray.size(); offset < size; offset++) {
+                jsonArray.set(offset, hibernatedArray.get(offset));
+            }
+        }
+        if (streamingWindow != null) {
+            final ArrayList<Point> streamingPoints = getStreamingPoints();
+            for (int i = 0, size = streamingPoints.size(); i < size; i++) {
+                jsonArray.set(offset + i, chart.convertPointToJSON(streamingPoints.get(i)));
+            }
+        } else {
+            for (int i = 0, size = points.size(); i < size; i++) {
+                jsonArray.set(offset + i, convertStoredPointToJSON(i));
+            }
+        }
+    }
+
+    // The data of a series whose points carry options of their own (such as a name or color), which is held on
+    // to as Highcharts had it while the chart is hibernated, since it can't be reduced to primitive columns
+    private JavaScriptObject hibernatedData;
+
+    /**
+     * Called by the chart right before it destroys its native instance in order to hibernate, to pull the
+     * current data of the series out of Highcharts so that it's still available when the chart is rendered
+     * again.  The values of the points are kept in the same primitive columns the series uses for the points
+     * it holds on to before it's rendered.
+     */
+    // Purposefully set to package scope
+    void hibernate() {
+        if (!isRendered()) {
+            return;
+        }
+        final JavaScriptObject nativeSeries = chart.get(this.id);
+        if (nativeSeries == null) {
+            return;
+        }
+        setOption("visible", nativeIsVisible(nativeSeries));
+
+        // Persistent and downsampled series already hold on to all of their data themselves
+        if (chart.isPersistent() || hasFullResolutionData()) {
+            return;
+        }
+
+        // Points streamed in since the last flush haven't been handed to Highcharts yet, so they stay in the window
+        final int pendingCount = streamingWindow != null ? streamingWindow.drainPending(streamingXBuffer, streamingYBuffer) : 0;
+        clearPoints();
+        for (int i = 0; i < pendingCount; i++) {
+            streamingWindow.add(streamingXBuffer[i], streamingYBuffer[i]);
+        }
+
+        final JsArrayString fields = nativeGetColumnFields(nativeSeries);
+        if (fields == null) {
+            hibernatedData = nativeGetDataOptions(nativeSeries);
+            return;
+        }
+        final double[][] columns = new double[fields.length()][];
+        for (int j = 0; j < columns.length; j++) {
+            final JsArrayNumber values = nativeReadColumn(nativeSeries, fields.get(j));
+            columns[j] = new double[values.length()];
+            for (int i = 0; i < columns[j].length; i++) {
+                columns[j][i] = values.get(i);
+            }
+        }
+        points.addColumns(columns);
+    }
 
     // Purposefully setting to package scope
     void clearInternalPointsList() {
+        // Highcharts keeps its own reference to the data array it was handed, so drop the one in our options
+        removeOption("data");
+        hibernatedData = null;
         if (!chart.isPersistent()) {
             this.points.clear();
+            if (streamingWindow != null) {
+                streamingWindow.clear();
+            }
+        } else if (streamingWindow != null) {
+            // The points in the window have just been handed to Highcharts along with the rest of the series
+            streamingWindow.markFlushed();
         }
     }
 
+    private void clearPoints() {
+        this.points.clear();
+        this.hibernatedData = null;
+        if (streamingWindow != null) {
+            streamingWindow.clear();
+        }
+        this.fullXValues = null;
+        this.fullYValues = null;
+    }
+
     boolean rendered = false;
 
     // Purposefully restricting to package scope
@@ -1239,10 +2294,203 @@ public class Series extends Configurable<Series> {
         series.addPoint(value, redraw, shift, animation);
     }-*/;
 
-    private static native void nativeSetData(JavaScriptObject series, JavaScriptObject data, boolean redraw) /*-{
+    private static native void nativeAddPoints(JavaScriptObject series, JavaScriptObject data, boolean redraw, boolean shift, boolean animationFlag, JavaScriptObject animationOptions) /*-{
+        for (var i = 0, length = data.length; i < length; i++) {
+            series.addPoint(data[i], false, shift, false);
+        }
+        if (redraw) {
+            series.chart.redraw(animationOptions || animationFlag);
+        }
+    }-*/;
+
+    private static native void nativeReconcilePoints(JavaScriptObject series, JavaScriptObject data, boolean matchById, boolean redraw, boolean animationFlag, JavaScriptObject animationOptions) /*-{
+        var oldPoints = series.data.slice(0), options = series.options, pointStart = options.pointStart || 0,
+            pointInterval = options.pointInterval || 1, arrayKeys = [null, null, ['y'], ['low', 'high'], null, ['open', 'high', 'low', 'close']],
+            existing = {}, matched = {}, i, point, config, key;
+
+        function getKey(config, index) {
+            if (config !== null && typeof config === 'object' && !(config instanceof Array)) {
+                return matchById ? config.id : (typeof config.x === 'number' ? config.x : pointStart + index * pointInterval);
+            } else if (matchById) {
+                return undefined;
+            }
+            return config instanceof Array ? config[0] : pointStart + index * pointInterval;
+        }
+
+        function isUnchanged(point, config) {
+            var keys, k, value;
+            if (config === null || typeof config !== 'object') {
+                return point.y === config;
+            }
+            if (config instanceof Array) {
+                keys = arrayKeys[config.length];
+                if (!keys || point.x !== config[0]) {
+                    return false;
+                }
+                for (k = 0; k < keys.length; k++) {
+                    if (point[keys[k]] !== config[k + 1]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            for (k in config) {
+                if (config.hasOwnProperty(k)) {
+                    value = config[k];
+                    if (k === 'id' && typeof value === 'string' && value.indexOf('highcharts-point-') === 0) {
+                        // Ids generated for the points of persistent charts aren't part of the data
+                        continue;
+                    }
+                    if (value !== null && typeof value === 'object') {
+                        if (JSON.stringify(value) !== JSON.stringify(point.options ? point.options[k] : undefined)) {
+                            return false;
+                        }
+                    } else if (point[k] !== value) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        for (i = 0; i < oldPoints.length; i++) {
+            if (!oldPoints[i]) {
+                // Highcharts only creates point objects for the visible range of large series, so
+                // there's nothing to compare against and the data simply has to be replaced
+                @org.moxieapps.gwt.highcharts.client.Series::nativeSetData(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Z)(series, data, false);
+                oldPoints = null;
+                break;
+            }
+            existing[matchById ? oldPoints[i].id : oldPoints[i].x] = oldPoints[i];
+        }
+
+        if (oldPoints) {
+            for (i = 0; i < data.length; i++) {
+                config = data[i];
+                key = getKey(config, i);
+                point = key !== undefined && existing.hasOwnProperty(key) && !matched.hasOwnProperty(key) ? existing[key] : null;
+                if (point) {
+                    matched[key] = true;
+                    if (!isUnchanged(point, config)) {
+                        point.update(config, false, false);
+                    }
+                } else {
+                    series.addPoint(config, false, false, false);
+                }
+            }
+            for (i = oldPoints.length - 1; i >= 0; i--) {
+                point = oldPoints[i];
+                key = matchById ? point.id : point.x;
+                if (!matched.hasOwnProperty(key) || existing[key] !== point) {
+                    point.remove(false, false);
+                }
+            }
+        }
+
+        if (redraw) {
+            series.chart.redraw(animationOptions || animationFlag);
+        }
+    }-*/;
+
+    private static native void nativeAddStreamingPoints(JavaScriptObject series, JsArrayNumber xValues, JsArrayNumber yValues, int count, int capacity, boolean redraw) /*-{
+        // Cut the series down to the part of the window that the new points don't replace in one step first, as
+        // shifting one point off per new point would never shrink a series that started out larger than the window
+        var data = series.options.data || [];
+        var excess = data.length - Math.max(0, capacity - count);
+        if (excess > 0) {
+            var tail = data.slice(excess), xIncrement = series.xIncrement, config;
+            for (var j = 0; j < tail.length; j++) {
+                config = tail[j];
+                if (config === null || typeof config === 'number') {
+                    tail[j] = [series.xData[excess + j], config];
+                } else if (!(config instanceof Array) && config.x === undefined) {
+                    config.x = series.xData[excess + j];
+                }
+            }
+            @org.moxieapps.gwt.highcharts.client.Series::nativeSetData(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;Z)(series, tail, false);
+            // Points added with only a Y value carry on from where the series left off
+            series.xIncrement = xIncrement;
+        }
+        var x, y;
+        for (var i = 0; i < count; i++) {
+            x = xValues[i];
+            y = yValues[i];
+            if (y !== y) {
+                y = null;
+            }
+            series.addPoint(x === x ? [x, y] : y, false, (series.xData || series.data).length >= capacity, false);
+        }
+        if (redraw) {
+            series.chart.redraw(false);
+        }
+    }-*/;
+
+    // Purposefully set to package scope (and called from other native methods), so that every replacement of the
+    // data of a series goes through here
+    static native void nativeSetData(JavaScriptObject series, JavaScriptObject data, boolean redraw) /*-{
+        // The new data may not have the same shape as the old, so let the points work it out again
+        delete series.gwtPointType;
         series.setData(data, redraw);
     }-*/;
 
+    private static native int nativeGetPlotWidth(JavaScriptObject series) /*-{
+        return series.chart.plotWidth || 0;
+    }-*/;
+
+    private static native double nativeGetXAxisUserExtreme(JavaScriptObject series, boolean max) /*-{
+        var extremes = series.xAxis ? series.xAxis.getExtremes() : null;
+        var value = extremes ? (max ? extremes.userMax : extremes.userMin) : null;
+        return typeof value === 'number' ? value : NaN;
+    }-*/;
+
+    private static native JsArrayString nativeGetPointIds(JavaScriptObject series) /*-{
+        var ids = [];
+        for (var i = 0; i < series.data.length; i++) {
+            ids[i] = series.data[i] && series.data[i].id != null ? String(series.data[i].id) : null;
+        }
+        return ids;
+    }-*/;
+
+    // The X value Highcharts gives the point at the given index when the point only has a Y value
+    private static native double nativeGetImplicitX(JavaScriptObject series, int index) /*-{
+        return (series.options.pointStart || 0) + index * (series.options.pointInterval || 1);
+    }-*/;
+
+    private static native String nativeGetPointId(JavaScriptObject nativePoint) /*-{
+        return nativePoint.id != null ? String(nativePoint.id) : null;
+    }-*/;
+
+    private static native double nativeGetPointValue(JavaScriptObject nativePoint, String field) /*-{
+        var value = nativePoint[field];
+        return typeof value === 'number' ? value : NaN;
+    }-*/;
+
+    private static native double nativeGetNumberOrNaN(JsArrayNumber array, int index) /*-{
+        var value = array[index];
+        return typeof value === 'number' ? value : NaN;
+    }-*/;
+
+    private static native JavaScriptObject nativeConvertColumnsToData(JsArray<JsArrayNumber> columns) /*-{
+        var width = columns.length, length = columns[0].length, data = new Array(length), i, j, value, point;
+        if (width == 1) {
+            var yValues = columns[0];
+            for (i = 0; i < length; i++) {
+                value = yValues[i];
+                data[i] = value === value ? value : null;
+            }
+        } else {
+            for (i = 0; i < length; i++) {
+                point = new Array(width);
+                for (j = 0; j < width; j++) {
+                    value = columns[j][i];
+                    point[j] = value === value ? value : null;
+                }
+                data[i] = point;
+            }
+        }
+        return data;
+    }-*/;
+
     private static native void nativeShow(JavaScriptObject series) /*-{
         series.show();
     }-*/;
@@ -1267,6 +2515,62 @@ public class Series extends Configurable<Series> {
         return series.data;
     }-*/;
 
+    private static native int nativeGetPointCount(JavaScriptObject series) /*-{
+        return (series.xData || series.data).length;
+    }-*/;
+
+    // Prefers the raw value arrays that Highcharts keeps for every point of the series, as the
+    // point objects in "series.data" may only exist for the points in the visible range
+    private static native JsArrayNumber nativeReadColumn(JavaScriptObject series, String field) /*-{
+        var xData = series.xData, yData = series.yData, keys = series.pointArrayMap, result = [], i, n, k, value, point;
+        if (xData && yData) {
+            k = -1;
+            if (keys) {
+                for (i = 0; i < keys.length; i++) {
+                    if (keys[i] === field) {
+                        k = i;
+                    }
+                }
+            }
+            for (i = 0, n = xData.length; i < n; i++) {
+                if (field === 'x') {
+                    value = xData[i];
+                } else if (keys) {
+                    value = k >= 0 && yData[i] ? yData[i][k] : null;
+                } else {
+                    value = field === 'y' ? yData[i] : null;
+                }
+                result[i] = typeof value === 'number' ? value : NaN;
+            }
+        } else {
+            for (i = 0, n = series.data.length; i < n; i++) {
+                point = series.data[i];
+                value = point ? point[field] : null;
+                result[i] = typeof value === 'number' ? value : NaN;
+            }
+        }
+        return result;
+    }-*/;
+
+    // Returns the values that make up each point of the series in data array order (e.g. "x", "low", "high"), or
+    // null if the points can't be stored as primitive columns because they carry other options or values
+    private static native JsArrayString nativeGetColumnFields(JavaScriptObject series) /*-{
+        var data = series.options.data || [], keys = series.pointArrayMap || ['y'], i;
+        if (keys.length != 1 && keys.length != 2 && keys.length != 4) {
+            return null;
+        }
+        for (i = 0; i < data.length; i++) {
+            if (data[i] !== null && typeof data[i] === 'object' && !(data[i] instanceof Array)) {
+                return null;
+            }
+        }
+        return ['x'].concat(keys);
+    }-*/;
+
+    private static native JavaScriptObject nativeGetDataOptions(JavaScriptObject series) /*-{
+        return series.options.data || [];
+    }-*/;
+
     private static native boolean nativeIsVisible(JavaScriptObject series) /*-{
         return series.visible;
     }-*/;
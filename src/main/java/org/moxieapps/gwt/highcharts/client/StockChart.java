@@ -144,6 +144,7 @@ public class StockChart extends BaseChart<StockChart> {
      */
     public StockChart setOHLCPlotOptions(OHLCPlotOptions ohlcPlotOptions) {
         this.ohlcPlotOptions = ohlcPlotOptions;
+        putPlotOptions("ohlc", ohlcPlotOptions);
         if (ohlcPlotOptions != null) {
             this.setOption("/plotOptions/ohlc", ohlcPlotOptions.getOptions());
         }
@@ -165,6 +166,7 @@ public class StockChart extends BaseChart<StockChart> {
      */
     public StockChart setCandlestickPlotOptions(CandlestickPlotOptions candlestickPlotOptions) {
         this.candlestickPlotOptions = candlestickPlotOptions;
+        putPlotOptions("candlestick", candlestickPlotOptions);
         if (candlestickPlotOptions != null) {
             this.setOption("/plotOptions/candlestick", candlestickPlotOptions.getOptions());
         }
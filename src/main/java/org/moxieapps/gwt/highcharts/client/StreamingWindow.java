@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client;
+
+/**
+ * A fixed capacity ring buffer of X/Y values used internally by a {@link Series} that has been
+ * placed in streaming mode via {@link Series#setStreamingWindow(int)}.  The buffer always holds the most
+ * recent points of the window, and also tracks how many of those points have not yet been handed to
+ * the live Highcharts series.  Once the buffer is full the oldest point is overwritten, so shifting
+ * a point off of the window is a constant time operation.  (Purposefully restricted to package
+ * scope as this is an implementation detail of the Series class.)
+ *
+ * @since 1.7.0
+ */
+class StreamingWindow {
+
+    private final double[] xValues;
+    private final double[] yValues;
+
+    // Index of the oldest point in the window, how many points are in the window, and how many of
+    // the newest points in the window have not yet been flushed to the native series
+    private int start;
+    private int size;
+    private int pending;
+
+    StreamingWindow(int capacity) {
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+    }
+
+    int getCapacity() {
+        return xValues.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getPendingSize() {
+        return pending;
+    }
+
+    /**
+     * Append a point to the end of the window, overwriting the oldest point if the window is full.
+     * If more points arrive between two flushes than the window can hold, the oldest of the pending
+     * points are the ones that get dropped.
+     *
+     * @param x The X value of the point, or NaN if the point only has a Y value.
+     * @param y The Y value of the point, or NaN for a null value.
+     */
+    void add(double x, double y) {
+        final int capacity = xValues.length;
+        int index;
+        if (size < capacity) {
+            index = (start + size) % capacity;
+            size++;
+        } else {
+            index = start;
+            start = (start + 1) % capacity;
+        }
+        xValues[index] = x;
+        yValues[index] = y;
+        if (pending < capacity) {
+            pending++;
+        }
+    }
+
+    double getX(int index) {
+        return xValues[(start + index) % xValues.length];
+    }
+
+    double getY(int index) {
+        return yValues[(start + index) % yValues.length];
+    }
+
+    /**
+     * Copy the points that have not yet been flushed into the given arrays (which must be at least
+     * {@link #getPendingSize()} long), and mark them as flushed.
+     *
+     * @return The number of points that were copied.
+     */
+    int drainPending(double[] xDest, double[] yDest) {
+        final int count = pending;
+        for (int i = 0, offset = size - count; i < count; i++) {
+            xDest[i] = getX(offset + i);
+            yDest[i] = getY(offset + i);
+        }
+        pending = 0;
+        return count;
+    }
+
+    void markFlushed() {
+        pending = 0;
+    }
+
+    void clear() {
+        start = 0;
+        size = 0;
+        pending = 0;
+    }
+
+}
@@ -283,9 +283,41 @@ public class ToolTip extends Configurable<ToolTip> {
      */
     public ToolTip setFormatter(ToolTipFormatter toolTipFormatter) {
         this.toolTipFormatter = toolTipFormatter;
+        this.formatterTemplate = null;
         return this;
     }
 
+    private String formatterTemplate;
+
+    /**
+     * Sets a template that is compiled into a native formatter for the tooltip when the chart is rendered, so that
+     * (unlike a {@link #setFormatter(ToolTipFormatter) custom formatter}) showing the tooltip doesn't require a
+     * call back into GWT.  Variables are given as paths relative to the tooltip (the same values that are
+     * available to a formatter via {@link ToolTipData}, e.g. "x", "y", "point.name" or "series.name") enclosed
+     * by curly brackets, optionally followed by a colon and either a number format (e.g. ".2f" for two decimals,
+     * ",.0f" to also group thousands, or "d" for integers) or a date format (e.g. "%Y-%m-%d").  For example:
+     * <code><pre>
+     * toolTip.setFormatterTemplate("{series.name}: {point.y:.2f}");
+     * </pre></code>
+     * Setting a template clears any custom formatter (and vice versa).
+     *
+     * @param formatterTemplate The template to compile into the formatter of the tooltip, or null to not use a template.
+     * @return A reference to this {@link ToolTip} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public ToolTip setFormatterTemplate(String formatterTemplate) {
+        this.formatterTemplate = formatterTemplate;
+        if (formatterTemplate != null) {
+            this.toolTipFormatter = null;
+        }
+        return this;
+    }
+
+    // Purposefully restricted to package scope
+    String getFormatterTemplate() {
+        return this.formatterTemplate;
+    }
+
     /**
      * Convenience method for setting the 'headerFormat' option for the tool tips.  Equivalent to:
      * <pre><code>
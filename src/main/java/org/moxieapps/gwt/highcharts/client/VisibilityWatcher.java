@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.moxieapps.gwt.highcharts.client;
+
+import java.util.ArrayList;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.event.logical.shared.ResizeEvent;
+import com.google.gwt.event.logical.shared.ResizeHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.Window;
+
+/**
+ * Keeps track of whether the charts that depend on their visibility (e.g. a lazily rendered chart that is still
+ * below the fold or within a hidden tab, or a chart that hibernates while out of view) are within the browser
+ * window, and lets each of them know the result via {@link BaseChart#onVisibilityChecked(boolean)}.  The charts
+ * are checked whenever the window is scrolled or resized, as well as on a regular interval to catch the cases
+ * that don't fire any window level events (such as a scroll panel being scrolled, or a tab being selected).
+ * Nothing is checked while no charts are being watched.  (Purposefully restricted to package scope as this is
+ * an implementation detail of the BaseChart class.)
+ *
+ * @since 1.7.0
+ */
+final class VisibilityWatcher {
+
+    // How often (in milliseconds) the watched charts are checked when there aren't any window events
+    private static final int CHECK_INTERVAL = 250;
+
+    // Purposefully not using the generic "List" interface here in order to optimize GWT performance.
+    private static final ArrayList<BaseChart<?>> charts = new ArrayList<BaseChart<?>>();
+
+    private static Timer timer;
+    private static HandlerRegistration scrollRegistration;
+    private static HandlerRegistration resizeRegistration;
+    private static boolean checkPending;
+
+    private VisibilityWatcher() {
+    }
+
+    static void watch(BaseChart<?> chart) {
+        if (charts.contains(chart)) {
+            return;
+        }
+        charts.add(chart);
+        if (charts.size() == 1) {
+            start();
+        }
+    }
+
+    static void unwatch(BaseChart<?> chart) {
+        if (charts.remove(chart) && charts.isEmpty()) {
+            stop();
+        }
+    }
+
+    static boolean isWatching(BaseChart<?> chart) {
+        return charts.contains(chart);
+    }
+
+    private static void start() {
+        if (timer == null) {
+            timer = new Timer() {
+                @Override
+                public void run() {
+                    checkAll();
+                }
+            };
+        }
+        timer.scheduleRepeating(CHECK_INTERVAL);
+        scrollRegistration = Window.addWindowScrollHandler(new Window.ScrollHandler() {
+            public void onWindowScroll(Window.ScrollEvent event) {
+                scheduleCheck();
+            }
+        });
+        resizeRegistration = Window.addResizeHandler(new ResizeHandler() {
+            public void onResize(ResizeEvent event) {
+                scheduleCheck();
+            }
+        });
+    }
+
+    private static void stop() {
+        timer.cancel();
+        scrollRegistration.removeHandler();
+        resizeRegistration.removeHandler();
+        scrollRegistration = null;
+        resizeRegistration = null;
+    }
+
+    // Scroll events can fire many times in a row, so they only lead to a single check once the events are handled
+    private static void scheduleCheck() {
+        if (checkPending) {
+            return;
+        }
+        checkPending = true;
+        Scheduler.get().scheduleFinally(new Scheduler.ScheduledCommand() {
+            public void execute() {
+                checkPending = false;
+                checkAll();
+            }
+        });
+    }
+
+    private static void checkAll() {
+        // Work off of a copy, as the charts typically stop being watched (or start rendering) as a result of the check
+        final BaseChart<?>[] watched = charts.toArray(new BaseChart<?>[charts.size()]);
+        for (BaseChart<?> chart : watched) {
+            if (charts.contains(chart)) {
+                chart.onVisibilityChecked(chart.isInViewport());
+            }
+        }
+    }
+
+}
@@ -116,7 +116,7 @@ public class XAxis extends Axis<XAxis> {
                 String category = categories[i];
                 jsArray.set(i, category);
             }
-            nativeSetCategories(nativeAxis, jsArray, redraw);
+            nativeSetCategories(nativeAxis, jsArray, chart.requestRedraw(redraw));
             return this;
         } else {
             return this.setOption("categories", categories);
@@ -147,6 +147,7 @@ public class XAxis extends Axis<XAxis> {
      */
     public XAxis setLabels(XAxisLabels labels) {
         this.xAxisLabels = labels;
+        clearFormatterCache();
         return this.setOption("labels", labels != null ? labels.getOptions() : null);
     }
 
@@ -99,6 +99,7 @@ public class YAxis extends Axis<YAxis> {
      */
     public YAxis setLabels(YAxisLabels labels) {
         this.yAxisLabels = labels;
+        clearFormatterCache();
         return this.setOption("labels", labels != null ? labels.getOptions() : null);
     }
 
@@ -135,6 +136,7 @@ public class YAxis extends Axis<YAxis> {
      */
     public YAxis setStackLabels(StackLabels stackLabels) {
         this.stackLabels = stackLabels;
+        clearFormatterCache();
         return this.setOption("stackLabels", stackLabels != null ? stackLabels.getOptions() : null);
     }
 
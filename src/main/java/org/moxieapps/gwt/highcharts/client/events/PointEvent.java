@@ -31,6 +31,9 @@ public abstract class PointEvent extends MouseEvent {
     @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"})
     private JavaScriptObject point;
 
+    // Only ever assigned by the chart (via JSNI) when it delivers coalesced events
+    private int skippedEventCount;
+
     /**
      * We can only be created by instantiating one of our sub classes.
      *
@@ -141,4 +144,16 @@ public abstract class PointEvent extends MouseEvent {
         return this.@org.moxieapps.gwt.highcharts.client.events.PointEvent::point.y;
     }-*/;
 
+    /**
+     * Returns the number of events of the same type that were skipped in favor of this one, which is only ever
+     * non zero when the high frequency point events are delivered once per animation frame via
+     * {@link org.moxieapps.gwt.highcharts.client.plotOptions.SeriesPlotOptions#setCoalescePointEvents(boolean)}.
+     *
+     * @return The number of events that occurred since the previous event of this type was delivered, excluding this one.
+     * @since 1.7.0
+     */
+    public int getSkippedEventCount() {
+        return skippedEventCount;
+    }
+
 }
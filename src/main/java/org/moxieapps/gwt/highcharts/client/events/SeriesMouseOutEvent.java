@@ -24,6 +24,10 @@ import com.google.gwt.core.client.JavaScriptObject;
  * create a {@link SeriesMouseOutEventHandler} and register it via the
  * {@link org.moxieapps.gwt.highcharts.client.plotOptions.SeriesPlotOptions#setSeriesMouseOutEventHandler(SeriesMouseOutEventHandler)}
  * method in order to access series mouse out events.
+ * <p/>
+ * Note that as mouse out events can fire at a very high rate, the chart reuses a single instance of this class
+ * for all of them, so an instance is only valid for the duration of the handler call and should not be
+ * retained (copy out any values that are needed later on instead).
  *
  * @author squinn@moxiegroup.com (Shawn Quinn)
  * @since 1.1.0
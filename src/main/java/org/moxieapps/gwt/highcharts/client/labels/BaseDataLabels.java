@@ -144,6 +144,8 @@ public abstract class BaseDataLabels<T extends BaseDataLabels> extends Labels<T>
      */
     public T setFormatter(DataLabelsFormatter dataLabelsFormatter) {
         this.dataLabelsFormatter = dataLabelsFormatter;
+        this.formatterTemplate = null;
+        this.batchFormatter = null;
         @SuppressWarnings({"unchecked", "UnnecessaryLocalVariable"})
         final T instance = (T) this;
         return instance;
@@ -159,4 +161,77 @@ public abstract class BaseDataLabels<T extends BaseDataLabels> extends Labels<T>
         return this.dataLabelsFormatter;
     }
 
+    private String formatterTemplate;
+
+    /**
+     * Sets a template that is compiled into a native formatter for the labels when the chart is rendered, so that
+     * (unlike a {@link #setFormatter(DataLabelsFormatter) custom formatter}) rendering the labels doesn't require a
+     * call back into GWT for every point.  Variables are given as paths relative to the data label (the same values
+     * that are available to a formatter via {@link DataLabelsData}) enclosed by curly brackets, optionally followed
+     * by a colon and either a number format (e.g. ".2f" for two decimals, ",.0f" to also group thousands, or "d"
+     * for integers) or a date format (e.g. "%Y-%m-%d").  For example:
+     * <code><pre>
+     * dataLabels.setFormatterTemplate("{series.name}: {point.y:.2f}");
+     * </pre></code>
+     * Setting a template clears any custom or batch formatter (and vice versa).
+     *
+     * @param formatterTemplate The template to compile into the formatter of the labels, or null to not use a template.
+     * @return A reference to this {@link DataLabels} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setFormatterTemplate(String formatterTemplate) {
+        this.formatterTemplate = formatterTemplate;
+        if (formatterTemplate != null) {
+            this.dataLabelsFormatter = null;
+            this.batchFormatter = null;
+        }
+        @SuppressWarnings({"unchecked", "UnnecessaryLocalVariable"})
+        final T instance = (T) this;
+        return instance;
+    }
+
+    /**
+     * Returns the formatter template that has been applied to the labels, or null if no template has been set.
+     *
+     * @return The formatter template that has been applied, or null if it has not been set.
+     * @since 1.7.0
+     */
+    public String getFormatterTemplate() {
+        return this.formatterTemplate;
+    }
+
+    private BatchDataLabelsFormatter batchFormatter;
+
+    /**
+     * Sets a custom formatter that formats the labels of all of the visible points of a series in one call,
+     * instead of being called once for every point like a {@link #setFormatter(DataLabelsFormatter) custom formatter}.
+     * The labels returned are remembered natively and handed back to Highcharts until the data or the visible
+     * range of the series changes.  See the {@link BatchDataLabelsFormatter} interface for more details.  Setting
+     * a batch formatter clears any custom formatter or formatter template (and vice versa).
+     *
+     * @param batchFormatter The batch formatter to use for the labels, or null to not use a batch formatter.
+     * @return A reference to this {@link DataLabels} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public T setBatchFormatter(BatchDataLabelsFormatter batchFormatter) {
+        this.batchFormatter = batchFormatter;
+        if (batchFormatter != null) {
+            this.dataLabelsFormatter = null;
+            this.formatterTemplate = null;
+        }
+        @SuppressWarnings({"unchecked", "UnnecessaryLocalVariable"})
+        final T instance = (T) this;
+        return instance;
+    }
+
+    /**
+     * Returns the batch formatter that has been applied to the labels, or null if no batch formatter has been set.
+     *
+     * @return The batch formatter that has been applied, or null if it has not been set.
+     * @since 1.7.0
+     */
+    public BatchDataLabelsFormatter getBatchFormatter() {
+        return this.batchFormatter;
+    }
+
 }
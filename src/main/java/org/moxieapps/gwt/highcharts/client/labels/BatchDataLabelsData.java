@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client.labels;
+
+/**
+ * An object that represents the state information that will be passed to any custom
+ * {@link BatchDataLabelsFormatter}, which holds the values of all of the visible points of a series
+ * as one primitive array per value (where NaN represents a value that the point doesn't have).
+ *
+ * @since 1.7.0
+ */
+public class BatchDataLabelsData {
+
+    private final String seriesId;
+    private final String seriesName;
+    private final double[] xValues;
+    private final double[] yValues;
+    private final double[] percentages;
+
+    /**
+     * This constructor needs to be public scope but you should not construct this object directly, but
+     * instead simply implement a custom {@link BatchDataLabelsFormatter} and this API will pass you the
+     * appropriate instance of this object at runtime.
+     *
+     * @param seriesId    The id of the series that the data labels are a part of.
+     * @param seriesName  The name of the series that the data labels are a part of.
+     * @param xValues     The X value of each visible point.
+     * @param yValues     The Y value of each visible point.
+     * @param percentages The percentage of the total of each visible point (stacked series and pies only).
+     */
+    public BatchDataLabelsData(String seriesId, String seriesName, double[] xValues, double[] yValues, double[] percentages) {
+        this.seriesId = seriesId;
+        this.seriesName = seriesName;
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.percentages = percentages;
+    }
+
+    /**
+     * Return the unique id of the series that the data labels are a part of, which can be used to
+     * obtain the Series instance itself via the {@link org.moxieapps.gwt.highcharts.client.BaseChart#getSeries(String)} method.
+     *
+     * @return The id of the series that the data labels are a part of.
+     */
+    public String getSeriesId() {
+        return seriesId;
+    }
+
+    /**
+     * Return the name of the series that the data labels are a part of (e.g. "series.name").
+     *
+     * @return The name of the series that the data labels are a part of.
+     */
+    public String getSeriesName() {
+        return seriesName;
+    }
+
+    /**
+     * Return the number of visible points, which is also the number of labels the formatter should return.
+     *
+     * @return The number of visible points in the series.
+     */
+    public int getPointCount() {
+        return xValues.length;
+    }
+
+    /**
+     * Return the X value of each visible point.
+     *
+     * @return The X values of the visible points, in the order of the points.
+     */
+    public double[] getXValues() {
+        return xValues;
+    }
+
+    /**
+     * Return the Y value of each visible point, or NaN for a null value.
+     *
+     * @return The Y values of the visible points, in the order of the points.
+     */
+    public double[] getYValues() {
+        return yValues;
+    }
+
+    /**
+     * Return the percentage of the total of each visible point.  Stacked series and pies only (NaN otherwise).
+     *
+     * @return The percentages of the visible points, in the order of the points.
+     */
+    public double[] getPercentages() {
+        return percentages;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2011 Moxie Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.moxieapps.gwt.highcharts.client.labels;
+
+/**
+ * An interface that can be used to control the display of the data labels of a series when the labels
+ * need custom logic, but calling a {@link DataLabelsFormatter} once for every point would be too costly
+ * (e.g. for a series with thousands of labeled points).  The batch formatter is instead called once with
+ * the values of all of the visible points of the series, and the labels it returns are remembered natively
+ * until the data or the visible range of the series changes.  General usage is as follows:
+ * <code><pre>
+ * chart.setSeriesPlotOptions(
+ *   new SeriesPlotOptions()
+ *     .setDataLabels(
+ *       new DataLabels()
+ *         .setBatchFormatter(new BatchDataLabelsFormatter() {
+ *            public String[] format(BatchDataLabelsData data) {
+ *                final double[] y = data.getYValues();
+ *                final String[] labels = new String[y.length];
+ *                for (int i = 0; i &lt; y.length; i++) {
+ *                    labels[i] = (long) y[i] + " degrees";
+ *                }
+ *                return labels;
+ *            }
+ *         })
+ *     )
+ * );
+ * </pre></code>
+ *
+ * @since 1.7.0
+ */
+public interface BatchDataLabelsFormatter {
+
+    /**
+     * Callback function to format the text of the data labels of all of the visible points of a series at once.
+     * The same subset of HTML is supported as described in {@link DataLabelsFormatter#format(DataLabelsData)}.
+     *
+     * @param batchDataLabelsData The values of the visible points of the series, as one array per value.
+     * @return The text to display for the label of each point (including any styling), in the same order as
+     *         the values given.  A null (or missing) entry results in an empty label for that point.
+     */
+    public String[] format(BatchDataLabelsData batchDataLabelsData);
+
+}
@@ -477,4 +477,35 @@ public class SeriesPlotOptions extends PlotOptions<SeriesPlotOptions> {
         return this;
     }
 
+    private boolean coalescePointEvents;
+
+    /**
+     * Set whether the point mouse over, mouse out, and drag events should be delivered at most once per animation
+     * frame, instead of synchronously on every native event.  When enabled, only the latest event of each type that
+     * occurred during a frame is passed to its handler, and {@link org.moxieapps.gwt.highcharts.client.events.PointEvent#getSkippedEventCount()}
+     * reports how many events of that type were skipped in favor of it.  This is recommended when those handlers update
+     * other widgets, as it keeps a fast moving mouse from forcing a layout on every event.  Note that a handler of a
+     * coalesced event can no longer cancel the default behavior of the event by returning false.  Drop events are always
+     * delivered right away (after any drag event still waiting for the next frame).  Defaults to false.
+     *
+     * @param coalescePointEvents Whether to deliver the high frequency point events once per animation frame.
+     * @return A reference to this {@link SeriesPlotOptions} instance for convenient method chaining.
+     * @since 1.7.0
+     */
+    public SeriesPlotOptions setCoalescePointEvents(boolean coalescePointEvents) {
+        this.coalescePointEvents = coalescePointEvents;
+        return this;
+    }
+
+    /**
+     * Returns whether the point mouse over, mouse out, and drag events are delivered once per animation frame,
+     * as set via {@link #setCoalescePointEvents(boolean)}.
+     *
+     * @return true if the high frequency point events are coalesced per animation frame.
+     * @since 1.7.0
+     */
+    public boolean isCoalescePointEvents() {
+        return this.coalescePointEvents;
+    }
+
 }